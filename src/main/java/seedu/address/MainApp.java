@@ -6,8 +6,11 @@ import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
+import seedu.address.commons.core.DayClock;
+import seedu.address.commons.core.DayRolloverScheduler;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
@@ -15,7 +18,9 @@ import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.ProgressiveLoader;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookFormat;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -23,11 +28,15 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournalAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.SegmentedAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindSaver;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -45,6 +54,9 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected DayRolloverScheduler dayRolloverScheduler;
+    protected WriteBehindSaver addressBookSaver;
+    protected ProgressiveLoader addressBookLoader;
 
     @Override
     public void init() throws Exception {
@@ -57,23 +69,60 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        storage = new StorageManager(initAddressBookStorage(config, userPrefs), userPrefsStorage);
 
-        model = initModelManager(storage, userPrefs);
+        if (config.isProgressiveLoading()) {
+            model = new ModelManager(new AddressBook(), userPrefs);
+            addressBookLoader = new ProgressiveLoader(model, Platform::runLater);
+        } else {
+            model = initModelManager(storage, userPrefs);
+        }
         model.updateFilteredLoanList(Model.PREDICATE_SHOW_NO_LOANS);
 
-        logic = new LogicManager(model, storage);
+        if (config.getSaveMaxStalenessMillis() >= 0) {
+            addressBookSaver = new WriteBehindSaver(storage, config.getSaveMaxStalenessMillis());
+        }
+        logic = new LogicManager(model, storage, addressBookSaver);
 
         ui = new UiManager(logic);
+
+        dayRolloverScheduler = new DayRolloverScheduler(DayClock.get(), () -> Platform.runLater(model::rollOverDay));
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
-     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * Returns the storage for the address book in the format chosen in {@code userPrefs}.
+     */
+    private AddressBookStorage initAddressBookStorage(Config config, ReadOnlyUserPrefs userPrefs) {
+        if (userPrefs.getAddressBookFormat() == AddressBookFormat.BINARY) {
+            return new BinaryAddressBookStorage(userPrefs.getAddressBookFilePath(), config.getDataFileBackupCount());
+        }
+        if (userPrefs.getAddressBookFormat() == AddressBookFormat.SEGMENTED) {
+            return new SegmentedAddressBookStorage(userPrefs.getAddressBookFilePath(),
+                    config.getDataFileBackupCount());
+        }
+        if (config.getJournalCompactionThresholdBytes() >= 0) {
+            return new JournalAddressBookStorage(userPrefs.getAddressBookFilePath(),
+                    config.getJournalCompactionThresholdBytes(), config.getDataFileBackupCount());
+        }
+        return new JsonAddressBookStorage(userPrefs.getAddressBookFilePath(), config.getDataFileBackupCount());
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}.
+     *
+     * @see #readInitialData(Storage)
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        return new ModelManager(readInitialData(storage), userPrefs);
+    }
+
+    /**
+     * Returns the data from {@code storage}'s address book. <br>
+     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
+     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book and
+     * all of its backups. If backups are kept, the next save keeps the data file that could not be read as one.
+     */
+    private ReadOnlyAddressBook readInitialData(Storage storage) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
 
         Optional<ReadOnlyAddressBook> addressBookOptional;
@@ -86,12 +135,11 @@ public class MainApp extends Application {
             }
             initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
         } catch (DataLoadingException e) {
-            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " and its backups could not be loaded."
                     + " Will be starting with an empty AddressBook.");
             initialData = new AddressBook();
         }
-
-        return new ModelManager(initialData, userPrefs);
+        return initialData;
     }
 
     private void initLogging(Config config) {
@@ -172,12 +220,21 @@ public class MainApp extends Application {
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
+        if (addressBookLoader != null) {
+            // the loaded data is handed to the UI thread, so it is only shown once the UI has started
+            addressBookLoader.start(() -> readInitialData(storage));
+        }
         ui.start(primaryStage);
+        dayRolloverScheduler.start();
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
+        dayRolloverScheduler.stop();
+        if (addressBookSaver != null) {
+            addressBookSaver.stop();
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -17,6 +17,14 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    // How long a change may wait before it is saved; a negative value saves each change before its command returns
+    private long saveMaxStalenessMillis = -1;
+    // Size a journal of changes may reach before it is compacted into the data file; a negative value keeps no journal
+    private long journalCompactionThresholdBytes = -1;
+    // Whether the window is shown before the address book is loaded, which is then added to it in the background
+    private boolean progressiveLoading = false;
+    // How many earlier versions of the data file are kept, to be loaded instead of a data file that cannot be
+    private int dataFileBackupCount = 3;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +42,38 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public long getSaveMaxStalenessMillis() {
+        return saveMaxStalenessMillis;
+    }
+
+    public void setSaveMaxStalenessMillis(long saveMaxStalenessMillis) {
+        this.saveMaxStalenessMillis = saveMaxStalenessMillis;
+    }
+
+    public long getJournalCompactionThresholdBytes() {
+        return journalCompactionThresholdBytes;
+    }
+
+    public void setJournalCompactionThresholdBytes(long journalCompactionThresholdBytes) {
+        this.journalCompactionThresholdBytes = journalCompactionThresholdBytes;
+    }
+
+    public boolean isProgressiveLoading() {
+        return progressiveLoading;
+    }
+
+    public void setProgressiveLoading(boolean progressiveLoading) {
+        this.progressiveLoading = progressiveLoading;
+    }
+
+    public int getDataFileBackupCount() {
+        return dataFileBackupCount;
+    }
+
+    public void setDataFileBackupCount(int dataFileBackupCount) {
+        this.dataFileBackupCount = dataFileBackupCount;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +87,17 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && saveMaxStalenessMillis == otherConfig.saveMaxStalenessMillis
+                && journalCompactionThresholdBytes == otherConfig.journalCompactionThresholdBytes
+                && progressiveLoading == otherConfig.progressiveLoading
+                && dataFileBackupCount == otherConfig.dataFileBackupCount;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, saveMaxStalenessMillis, journalCompactionThresholdBytes,
+                progressiveLoading, dataFileBackupCount);
     }
 
     @Override
@@ -60,6 +105,10 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("saveMaxStalenessMillis", saveMaxStalenessMillis)
+                .add("journalCompactionThresholdBytes", journalCompactionThresholdBytes)
+                .add("progressiveLoading", progressiveLoading)
+                .add("dataFileBackupCount", dataFileBackupCount)
                 .toString();
     }
 
@@ -0,0 +1,88 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * Tells the current day as an epoch day, in the time zone of an underlying {@code Clock}.
+ * The day is cached until the next midnight, so reading it is one clock read and a comparison.
+ * The application reads the day from a shared instance, which tests can replace with a fixed clock.
+ */
+public class DayClock {
+
+    private static volatile DayClock current = new DayClock(Clock.systemDefaultZone());
+
+    private final Clock clock;
+    private volatile CachedDay cachedDay;
+
+    /**
+     * Constructs a {@code DayClock} that reads the time from {@code clock}.
+     */
+    public DayClock(Clock clock) {
+        requireNonNull(clock);
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the shared {@code DayClock}.
+     */
+    public static DayClock get() {
+        return current;
+    }
+
+    /**
+     * Replaces the shared {@code DayClock}.
+     */
+    public static void set(DayClock dayClock) {
+        requireNonNull(dayClock);
+        current = dayClock;
+    }
+
+    /**
+     * Returns the current day as the number of days since 1970-01-01.
+     */
+    public int today() {
+        return dayAt(clock.millis()).epochDay;
+    }
+
+    /**
+     * Returns the number of milliseconds from now until the start of the next day.
+     */
+    public long millisUntilTomorrow() {
+        long now = clock.millis();
+        return dayAt(now).endMillis - now;
+    }
+
+    private CachedDay dayAt(long now) {
+        CachedDay day = cachedDay;
+        if (day == null || now < day.startMillis || now >= day.endMillis) {
+            day = new CachedDay(now, clock.getZone());
+            cachedDay = day;
+        }
+        return day;
+    }
+
+    public ZoneId getZone() {
+        return clock.getZone();
+    }
+
+    /**
+     * A day together with the instants at which it starts and ends.
+     */
+    private static class CachedDay {
+        private final int epochDay;
+        private final long startMillis;
+        private final long endMillis;
+
+        CachedDay(long now, ZoneId zone) {
+            LocalDate date = Instant.ofEpochMilli(now).atZone(zone).toLocalDate();
+            epochDay = (int) date.toEpochDay();
+            startMillis = date.atStartOfDay(zone).toInstant().toEpochMilli();
+            endMillis = date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+        }
+    }
+}
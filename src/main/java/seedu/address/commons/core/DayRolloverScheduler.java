@@ -0,0 +1,79 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Runs a task once shortly after every midnight of a {@code DayClock}.
+ * The task runs on a single background thread, so it should hand any work on shared state over to the thread
+ * that owns that state.
+ */
+public class DayRolloverScheduler {
+
+    /** Delay after midnight before the task runs, so that the clock has surely moved on to the new day. */
+    private static final long GRACE_MILLIS = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(DayRolloverScheduler.class);
+
+    private final DayClock dayClock;
+    private final Runnable task;
+    private ScheduledExecutorService executor;
+
+    /**
+     * Constructs a {@code DayRolloverScheduler} that runs {@code task} after every midnight of {@code dayClock}.
+     */
+    public DayRolloverScheduler(DayClock dayClock, Runnable task) {
+        requireNonNull(dayClock);
+        requireNonNull(task);
+        this.dayClock = dayClock;
+        this.task = task;
+    }
+
+    /**
+     * Starts running the task after every midnight. Does nothing if already started.
+     */
+    public synchronized void start() {
+        if (executor != null) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "day-rollover");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduleNext();
+    }
+
+    /**
+     * Stops running the task. Does nothing if not started.
+     */
+    public synchronized void stop() {
+        if (executor == null) {
+            return;
+        }
+        executor.shutdownNow();
+        executor = null;
+    }
+
+    private synchronized void scheduleNext() {
+        if (executor == null) {
+            return;
+        }
+        long delay = dayClock.millisUntilTomorrow() + GRACE_MILLIS;
+        executor.schedule(this::runAndReschedule, delay, TimeUnit.MILLISECONDS);
+        logger.fine("Next day rollover in " + delay + " ms");
+    }
+
+    private void runAndReschedule() {
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            logger.warning("Day rollover failed: " + e);
+        }
+        scheduleNext();
+    }
+}
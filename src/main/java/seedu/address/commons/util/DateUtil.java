@@ -1,18 +1,38 @@
 package seedu.address.commons.util;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.ResolverStyle;
+import java.time.format.SignStyle;
+import java.time.temporal.ChronoField;
 import java.util.Date;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
  * A utility class to handle date parsing and formatting.
+ * Dates are whole days in the system time zone. The formatters are immutable, so these methods are thread-safe.
+ * Dates are always formatted as {@link #DATE_FORMAT}, but parsing also accepts what it used to accept before the
+ * formatters were introduced: fields of fewer digits, such as {@code 2024-1-5}, and text after the date.
  */
 public class DateUtil {
 
     public static final String DATE_FORMAT = "yyyy-MM-dd";
-    private static final SimpleDateFormat DATE_FORMATTER = new SimpleDateFormat(DATE_FORMAT);
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("uuuu-MM-dd")
+            .withResolverStyle(ResolverStyle.STRICT);
+    private static final DateTimeFormatter DATE_PARSER = new DateTimeFormatterBuilder()
+            .appendValue(ChronoField.YEAR, 1, 9, SignStyle.NORMAL)
+            .appendLiteral('-')
+            .appendValue(ChronoField.MONTH_OF_YEAR, 1, 2, SignStyle.NOT_NEGATIVE)
+            .appendLiteral('-')
+            .appendValue(ChronoField.DAY_OF_MONTH, 1, 2, SignStyle.NOT_NEGATIVE)
+            .toFormatter()
+            .withResolverStyle(ResolverStyle.STRICT);
 
     /**
      * Parses a date string into a Date object.
@@ -22,10 +42,21 @@ public class DateUtil {
      * @throws IllegalValueException If the date string is not in the correct format.
      */
     public static Date parse(String date) throws IllegalValueException {
-        DATE_FORMATTER.setLenient(false);
+        return toDate(parseEpochDay(date));
+    }
+
+    /**
+     * Parses a date string into an epoch day.
+     *
+     * @param date The date string to parse.
+     * @return The number of days from 1970-01-01 to the parsed date.
+     * @throws IllegalValueException If the date string is not in the correct format.
+     */
+    public static int parseEpochDay(String date) throws IllegalValueException {
         try {
-            return DATE_FORMATTER.parse(date);
-        } catch (ParseException e) {
+            // parsing from a position leaves any text after the date unparsed rather than rejecting it
+            return (int) LocalDate.from(DATE_PARSER.parse(date, new ParsePosition(0))).toEpochDay();
+        } catch (DateTimeException e) {
             throw new IllegalValueException(DATE_FORMAT + " is the only supported date format.");
         }
     }
@@ -37,7 +68,17 @@ public class DateUtil {
      * @return The formatted date string.
      */
     public static String format(Date date) {
-        return DATE_FORMATTER.format(date);
+        return formatEpochDay(toEpochDay(date));
+    }
+
+    /**
+     * Formats an epoch day into a date string.
+     *
+     * @param epochDay The number of days from 1970-01-01.
+     * @return The formatted date string.
+     */
+    public static String formatEpochDay(int epochDay) {
+        return DATE_FORMATTER.format(LocalDate.ofEpochDay(epochDay));
     }
 
     /**
@@ -53,4 +94,24 @@ public class DateUtil {
         return new Date(time);
     }
 
+    /**
+     * Returns the number of days from 1970-01-01 to the day of a Date object in the system time zone.
+     *
+     * @param date The Date object to convert.
+     * @return The epoch day of the date.
+     */
+    public static int toEpochDay(Date date) {
+        return (int) Instant.ofEpochMilli(date.getTime()).atZone(ZoneId.systemDefault()).toLocalDate().toEpochDay();
+    }
+
+    /**
+     * Returns a Date object at the start of an epoch day in the system time zone.
+     *
+     * @param epochDay The number of days from 1970-01-01.
+     * @return The Date object at midnight of that day.
+     */
+    public static Date toDate(int epochDay) {
+        return Date.from(LocalDate.ofEpochDay(epochDay).atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+
 }
@@ -1,10 +1,26 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Writes and reads files
@@ -12,6 +28,12 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /** Files at least this large are mapped into memory by {@link #readMapped} instead of being read onto the heap. */
+    public static final long MAPPED_READ_THRESHOLD_BYTES = 1 << 20;
+
+    private static final Consumer<ByteBuffer> UNMAPPER = findUnmapper();
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -69,15 +91,261 @@ public class FileUtil {
      * Assumes file exists
      */
     public static String readFromFile(Path file) throws IOException {
-        return new String(Files.readAllBytes(file), CHARSET);
+        return Charset.forName(CHARSET).decode(readToBuffer(file)).toString();
+    }
+
+    /**
+     * Returns the content of the file as a read-only buffer on the heap.
+     * The file is read in one pass without being decoded, and is closed before this method returns, so it can be
+     * replaced or truncated while the buffer is still in use.
+     *
+     * @throws IOException if the file cannot be read or is too large to be held in a single buffer.
+     */
+    public static ByteBuffer readToBuffer(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return readFully(channel, checkedSize(file, channel));
+        }
     }
 
     /**
-     * Writes given string to a file.
+     * Returns what {@code reader} reads from the content of the file, which it is given as a read-only buffer.
+     * Files of at least {@link #MAPPED_READ_THRESHOLD_BYTES} are mapped into memory rather than copied onto the heap,
+     * so the heap only has to hold what {@code reader} decodes. The mapping is released as soon as {@code reader}
+     * returns so that the file can be replaced afterwards; {@code reader} must therefore not keep the buffer.
+     *
+     * @throws IOException if the file cannot be read, is too large to be held in a single buffer, or is truncated
+     *     while it is mapped.
+     */
+    public static <T, E extends Exception> T readMapped(Path file, BufferReader<T, E> reader) throws IOException, E {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            int size = checkedSize(file, channel);
+            if (size < MAPPED_READ_THRESHOLD_BYTES) {
+                return reader.read(readFully(channel, size));
+            }
+            MappedByteBuffer mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            try {
+                return reader.read(mapping.asReadOnlyBuffer());
+            } catch (InternalError e) {
+                // the JVM raises this when a mapped page is no longer backed by the file
+                throw new IOException("File was truncated while being read: " + file, e);
+            } finally {
+                UNMAPPER.accept(mapping);
+            }
+        }
+    }
+
+    private static int checkedSize(Path file, FileChannel channel) throws IOException {
+        long size = channel.size();
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("File is too large to be read: " + file);
+        }
+        return (int) size;
+    }
+
+    private static ByteBuffer readFully(FileChannel channel, int size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        while (buffer.hasRemaining() && channel.read(buffer) != -1) {
+            // keep reading until the whole file is in the buffer
+        }
+        buffer.flip();
+        return buffer.asReadOnlyBuffer();
+    }
+
+    /**
+     * Returns a function that unmaps a mapped buffer at once, rather than whenever it is garbage collected.
+     * Where the running JVM offers no way to do so, the returned function leaves the buffer to the garbage collector.
+     */
+    private static Consumer<ByteBuffer> findUnmapper() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            Object unsafe = theUnsafe.get(null);
+            Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            return buffer -> {
+                try {
+                    invokeCleaner.invoke(unsafe, buffer);
+                } catch (ReflectiveOperationException e) {
+                    // the mapping is released when the buffer is garbage collected instead
+                }
+            };
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return buffer -> { };
+        }
+    }
+
+    /**
+     * Writes given string to a file, replacing it atomically.
      * Will create the file if it does not exist yet.
+     *
+     * @see #writeAtomically(Path, int, ContentWriter)
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        writeAtomically(file, 0, out -> out.write(bytes));
+    }
+
+    /**
+     * Writes the content given by {@code writer} to {@code file}, creating any missing parent directories.
+     * The content is written to a temporary file beside {@code file} and forced to disk first, and then replaces
+     * {@code file} through {@link #replace(Path, Path, int)}, so that a crash leaves either the old or the new
+     * content, but never part of the new one.
+     *
+     * @param backupCount how many earlier versions of {@code file} to keep.
+     */
+    public static void writeAtomically(Path file, int backupCount, ContentWriter writer) throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = getTempPath(file);
+        try {
+            writeDurably(tempFile, writer);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        replace(file, tempFile, backupCount);
+    }
+
+    /**
+     * Writes the content given by {@code writer} as the only content of {@code file} and waits until it is on disk.
+     * {@code writer} may close the stream it is given, which leaves the file open until its content is forced.
+     */
+    public static void writeDurably(Path file, ContentWriter writer) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            OutputStream out = new BufferedOutputStream(new UnclosedOutputStream(Channels.newOutputStream(channel)),
+                    BUFFER_SIZE);
+            writer.write(out);
+            out.flush();
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Writes {@code content} as the only content of {@code file} and waits until it is on disk.
+     */
+    public static void writeDurably(Path file, byte[] content) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(content);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Replaces {@code file} by {@code replacement}, whose content should already be on disk, keeping up to
+     * {@code backupCount} earlier versions of {@code file} at its {@linkplain #getBackupPath backup paths}.
+     * Nothing is copied: the version replaced becomes the newest backup through a hard link where the file system
+     * supports them, so that {@code file} exists throughout, or else by being renamed, and older backups are renamed.
+     */
+    public static void replace(Path file, Path replacement, int backupCount) throws IOException {
+        if (backupCount > 0 && Files.exists(file)) {
+            Files.deleteIfExists(getBackupPath(file, backupCount));
+            for (int generation = backupCount - 1; generation >= 1; generation--) {
+                Path backup = getBackupPath(file, generation);
+                if (Files.exists(backup)) {
+                    moveAtomically(backup, getBackupPath(file, generation + 1));
+                }
+            }
+            Path newestBackup = getBackupPath(file, 1);
+            try {
+                Files.createLink(newestBackup, file);
+            } catch (UnsupportedOperationException | IOException e) {
+                moveAtomically(file, newestBackup);
+            }
+        }
+        moveAtomically(replacement, file);
+        forceDirectory(file.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Moves {@code source} to {@code target}, replacing it, in a single step where the file system supports that.
+     */
+    public static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Returns the path of the temporary file that new content of {@code file} is written to.
+     */
+    public static Path getTempPath(Path file) {
+        return file.resolveSibling(file.getFileName() + ".tmp");
+    }
+
+    /**
+     * Returns the path of the backup of {@code file} of the given generation, 1 being the newest.
+     */
+    public static Path getBackupPath(Path file, int generation) {
+        return file.resolveSibling(file.getFileName() + "." + generation);
+    }
+
+    /**
+     * Returns {@code file} followed by the paths of its backups, newest first, of which there are {@code backupCount}.
+     */
+    public static List<Path> getGenerationPaths(Path file, int backupCount) {
+        List<Path> paths = new ArrayList<>();
+        paths.add(file);
+        for (int generation = 1; generation <= backupCount; generation++) {
+            paths.add(getBackupPath(file, generation));
+        }
+        return paths;
+    }
+
+    /**
+     * Forces the entries of {@code directory} to disk, so that files renamed in it stay renamed after a crash.
+     */
+    private static void forceDirectory(Path directory) {
+        if (directory == null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // not every platform can open a directory; the file system then makes the rename durable on its own
+        }
+    }
+
+    /**
+     * Writes the content of a file to the stream it is given.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void write(OutputStream out) throws IOException;
+    }
+
+    /**
+     * Reads a value from the content of a file.
+     * The content is only valid until this returns, so the buffer must not be kept.
+     */
+    @FunctionalInterface
+    public interface BufferReader<T, E extends Exception> {
+        T read(ByteBuffer content) throws IOException, E;
+    }
+
+    /**
+     * A stream that passes writes on to another stream, but is only flushed when it is closed.
+     */
+    private static class UnclosedOutputStream extends FilterOutputStream {
+
+        UnclosedOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
     }
 
 }
@@ -0,0 +1,403 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable map from non-negative int keys to values, iterated in ascending key order.
+ * Every update returns a new map that shares all untouched nodes with the old one, so keeping an old version
+ * around costs nothing and reading it needs no locking.
+ * The map is a bitmap-compressed trie of fixed depth that consumes five key bits per level, so {@link #get(int)},
+ * {@link #put(int, Object)} and {@link #remove(int)} visit at most seven nodes. A whole map is built with a
+ * {@link Builder}, which creates each node once instead of copying a path of nodes for every key.
+ *
+ * @param <V> The type of the values, which must not be null.
+ */
+public final class PersistentIntMap<V> implements Iterable<V> {
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final int TOP_SHIFT = 30;
+    private static final int DEPTH = TOP_SHIFT / BITS + 1;
+
+    private static final PersistentIntMap<?> EMPTY = new PersistentIntMap<>(null, 0);
+
+    private final Node root;
+    private final int size;
+
+    private PersistentIntMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Returns the empty map.
+     */
+    @SuppressWarnings("unchecked")
+    public static <V> PersistentIntMap<V> empty() {
+        return (PersistentIntMap<V>) EMPTY;
+    }
+
+    /**
+     * Returns a builder for a new map, whose keys must be put in ascending order.
+     */
+    public static <V> Builder<V> builder() {
+        return new Builder<>();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the value mapped to {@code key}, or null if there is none.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        checkKey(key);
+        Node node = root;
+        for (int shift = TOP_SHIFT; node != null; shift -= BITS) {
+            Object child = node.child((key >>> shift) & MASK);
+            if (shift == 0) {
+                return (V) child;
+            }
+            node = (Node) child;
+        }
+        return null;
+    }
+
+    /**
+     * Returns a map with {@code key} mapped to {@code value}.
+     */
+    public PersistentIntMap<V> put(int key, V value) {
+        requireNonNull(value);
+        boolean isNewKey = get(key) == null;
+        return new PersistentIntMap<>(put(root, TOP_SHIFT, key, value), isNewKey ? size + 1 : size);
+    }
+
+    /**
+     * Returns a map without {@code key}, or this map if it does not contain {@code key}.
+     */
+    public PersistentIntMap<V> remove(int key) {
+        if (get(key) == null) {
+            return this;
+        }
+        return new PersistentIntMap<>(remove(root, TOP_SHIFT, key), size - 1);
+    }
+
+    /**
+     * Returns the values of this map in ascending key order.
+     */
+    public List<V> values() {
+        List<V> values = new ArrayList<>(size);
+        for (V value : this) {
+            values.add(value);
+        }
+        return values;
+    }
+
+    /**
+     * Performs {@code action} on each key and its value, in ascending key order.
+     */
+    public void forEach(IntObjConsumer<? super V> action) {
+        requireNonNull(action);
+        if (root != null) {
+            forEach(root, TOP_SHIFT, 0, action);
+        }
+    }
+
+    /**
+     * Performs {@code action} on each key whose value differs between this map and {@code newer}, in ascending key
+     * order. Values are compared by identity. Subtrees that the two maps share are skipped, so comparing two
+     * versions of a map takes time proportional to the number of updates between them.
+     */
+    public void forEachChange(PersistentIntMap<V> newer, ChangeConsumer<? super V> action) {
+        requireNonNull(newer);
+        requireNonNull(action);
+        forEachChange(root, newer.root, TOP_SHIFT, 0, action);
+    }
+
+    @Override
+    public Iterator<V> iterator() {
+        return new ValueIterator();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> void forEachChange(Node older, Node newer, int shift, int keyPrefix,
+            ChangeConsumer<? super V> action) {
+        if (older == newer) {
+            return;
+        }
+        for (int index = 0; index <= MASK; index++) {
+            Object olderChild = older == null ? null : older.child(index);
+            Object newerChild = newer == null ? null : newer.child(index);
+            if (olderChild == newerChild) {
+                continue;
+            }
+            int key = keyPrefix | (index << shift);
+            if (shift == 0) {
+                action.accept(key, (V) olderChild, (V) newerChild);
+            } else {
+                forEachChange((Node) olderChild, (Node) newerChild, shift - BITS, key, action);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> void forEach(Node node, int shift, int keyPrefix, IntObjConsumer<? super V> action) {
+        for (int index = 0; index <= MASK; index++) {
+            Object child = node.child(index);
+            if (child == null) {
+                continue;
+            }
+            int key = keyPrefix | (index << shift);
+            if (shift == 0) {
+                action.accept(key, (V) child);
+            } else {
+                forEach((Node) child, shift - BITS, key, action);
+            }
+        }
+    }
+
+    private static Node put(Node node, int shift, int key, Object value) {
+        int index = (key >>> shift) & MASK;
+        Object newChild = shift == 0
+                ? value
+                : put(node == null ? null : (Node) node.child(index), shift - BITS, key, value);
+        return node == null ? new Node(1 << index, new Object[] {newChild}) : node.with(index, newChild);
+    }
+
+    private static Node remove(Node node, int shift, int key) {
+        int index = (key >>> shift) & MASK;
+        Object newChild = shift == 0 ? null : remove((Node) node.child(index), shift - BITS, key);
+        return newChild == null ? node.without(index) : node.with(index, newChild);
+    }
+
+    private static void checkKey(int key) {
+        if (key < 0) {
+            throw new IllegalArgumentException("Keys must not be negative: " + key);
+        }
+    }
+
+    /**
+     * Builds a map from keys put in ascending order.
+     * Only the nodes on the path to the latest key are still open; each node is completed once no later key can
+     * fall into it, so building a map of {@code n} keys takes time proportional to {@code n}.
+     *
+     * @param <V> The type of the values, which must not be null.
+     */
+    public static final class Builder<V> {
+        private final Object[][] children = new Object[DEPTH][MASK + 1];
+        private final int[] bitmaps = new int[DEPTH];
+        private int lastKey = -1;
+        private int size;
+
+        private Builder() {}
+
+        /**
+         * Maps {@code key} to {@code value}. {@code key} must be greater than every key put before.
+         */
+        public Builder<V> put(int key, V value) {
+            checkKey(key);
+            requireNonNull(value);
+            if (key <= lastKey) {
+                throw new IllegalArgumentException("Keys must be put in ascending order: " + key);
+            }
+            if (size > 0) {
+                int depth = 0;
+                while ((key >>> shiftAt(depth)) == (lastKey >>> shiftAt(depth))) {
+                    depth++;
+                }
+                // the paths to the two keys part at this depth, so the nodes below it on the old path are complete
+                completeNodesBelow(depth);
+            }
+            lastKey = key;
+            addChild(DEPTH - 1, key & MASK, value);
+            size++;
+            return this;
+        }
+
+        /**
+         * Returns the map of the keys put so far. The builder must not be used afterwards.
+         */
+        public PersistentIntMap<V> build() {
+            if (size == 0) {
+                return empty();
+            }
+            completeNodesBelow(0);
+            return new PersistentIntMap<>(complete(0), size);
+        }
+
+        private void completeNodesBelow(int depth) {
+            for (int d = DEPTH - 1; d > depth; d--) {
+                addChild(d - 1, (lastKey >>> shiftAt(d - 1)) & MASK, complete(d));
+            }
+        }
+
+        private void addChild(int depth, int index, Object child) {
+            children[depth][index] = child;
+            bitmaps[depth] |= 1 << index;
+        }
+
+        /**
+         * Returns the open node at {@code depth} as a trie node, and starts a new empty node there.
+         */
+        private Node complete(int depth) {
+            int bitmap = bitmaps[depth];
+            Object[] present = new Object[Integer.bitCount(bitmap)];
+            for (int index = 0, position = 0; index <= MASK; index++) {
+                if ((bitmap & (1 << index)) != 0) {
+                    present[position++] = children[depth][index];
+                    children[depth][index] = null;
+                }
+            }
+            bitmaps[depth] = 0;
+            return new Node(bitmap, present);
+        }
+
+        private static int shiftAt(int depth) {
+            return TOP_SHIFT - depth * BITS;
+        }
+    }
+
+    /**
+     * An action on a key and its value.
+     *
+     * @param <V> The type of the values.
+     */
+    @FunctionalInterface
+    public interface IntObjConsumer<V> {
+        void accept(int key, V value);
+    }
+
+    /**
+     * An action on a key whose value has changed.
+     *
+     * @param <V> The type of the values.
+     */
+    @FunctionalInterface
+    public interface ChangeConsumer<V> {
+        /**
+         * Performs this action on {@code key}, whose value changed from {@code oldValue} to {@code newValue}.
+         * {@code oldValue} is null if the key was added, and {@code newValue} is null if it was removed.
+         */
+        void accept(int key, V oldValue, V newValue);
+    }
+
+    /**
+     * A trie node holding up to 32 children, of which only the present ones are stored.
+     * Bit {@code i} of {@code bitmap} is set if child {@code i} is present.
+     */
+    private static final class Node {
+        private final int bitmap;
+        private final Object[] children;
+
+        Node(int bitmap, Object[] children) {
+            this.bitmap = bitmap;
+            this.children = children;
+        }
+
+        Object child(int index) {
+            int bit = 1 << index;
+            return (bitmap & bit) == 0 ? null : children[position(bit)];
+        }
+
+        Node with(int index, Object child) {
+            int bit = 1 << index;
+            int position = position(bit);
+            if ((bitmap & bit) != 0) {
+                Object[] newChildren = children.clone();
+                newChildren[position] = child;
+                return new Node(bitmap, newChildren);
+            }
+            Object[] newChildren = new Object[children.length + 1];
+            System.arraycopy(children, 0, newChildren, 0, position);
+            newChildren[position] = child;
+            System.arraycopy(children, position, newChildren, position + 1, children.length - position);
+            return new Node(bitmap | bit, newChildren);
+        }
+
+        Node without(int index) {
+            int bit = 1 << index;
+            if (bitmap == bit) {
+                return null;
+            }
+            int position = position(bit);
+            Object[] newChildren = new Object[children.length - 1];
+            System.arraycopy(children, 0, newChildren, 0, position);
+            System.arraycopy(children, position + 1, newChildren, position, newChildren.length - position);
+            return new Node(bitmap & ~bit, newChildren);
+        }
+
+        private int position(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+    }
+
+    /**
+     * Walks the trie depth first, keeping the path from the root to the current leaf node.
+     */
+    private class ValueIterator implements Iterator<V> {
+        private final Node[] nodes = new Node[DEPTH];
+        private final int[] positions = new int[DEPTH];
+        private int depth = -1;
+
+        ValueIterator() {
+            if (root != null) {
+                descend(root);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return depth >= 0;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            V value = (V) nodes[depth].children[positions[depth]];
+            advance();
+            return value;
+        }
+
+        /**
+         * Pushes {@code node} and the first nodes below it down to the leaf level.
+         */
+        private void descend(Node node) {
+            while (true) {
+                depth++;
+                nodes[depth] = node;
+                positions[depth] = 0;
+                if (depth == DEPTH - 1) {
+                    return;
+                }
+                node = (Node) node.children[0];
+            }
+        }
+
+        private void advance() {
+            while (depth >= 0) {
+                positions[depth]++;
+                if (positions[depth] < nodes[depth].children.length) {
+                    if (depth < DEPTH - 1) {
+                        descend((Node) nodes[depth].children[positions[depth]]);
+                    }
+                    return;
+                }
+                depth--;
+            }
+        }
+    }
+}
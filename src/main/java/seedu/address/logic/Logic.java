@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.beans.property.ObjectProperty;
 import javafx.collections.ObservableList;
@@ -8,6 +9,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.LoadProgress;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.analytics.DashboardData;
 import seedu.address.model.person.Loan;
@@ -28,6 +30,12 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets the handler that is given the error message of a save that failed after its command had returned.
+     * The handler may be called from any thread. Saves that fail are retried after the next command.
+     */
+    void setSaveFailureHandler(Consumer<String> handler);
+
     /**
      * Returns the AddressBook.
      *
@@ -60,4 +68,11 @@ public interface Logic {
     ObjectProperty<DashboardData> getAnalytics();
 
     ObjectProperty<TabIndicator> getTabIndicator();
+
+    /**
+     * Returns how far the address book has been loaded. Commands that use the address book fail until it is done.
+     *
+     * @see seedu.address.model.Model#getLoadProgress()
+     */
+    ObjectProperty<LoadProgress> getLoadProgress();
 }
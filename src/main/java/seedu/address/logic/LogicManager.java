@@ -1,8 +1,11 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.beans.property.ObjectProperty;
@@ -14,6 +17,7 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.LoadProgress;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.analytics.DashboardData;
@@ -21,6 +25,7 @@ import seedu.address.model.person.Loan;
 import seedu.address.model.person.Person;
 import seedu.address.model.tabindicator.TabIndicator;
 import seedu.address.storage.Storage;
+import seedu.address.storage.WriteBehindSaver;
 
 
 /**
@@ -32,19 +37,42 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    /** Version recorded as saved while the address book has not been saved, so that the next command saves it. */
+    private static final long UNSAVED_VERSION = -1;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final WriteBehindSaver addressBookSaver;
+    private volatile long savedVersion = UNSAVED_VERSION;
+    private volatile Consumer<String> saveFailureHandler = message -> { };
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The address book is saved before each command returns.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage} that hands the address book
+     * to {@code addressBookSaver} to be saved in the background, or saves it before each command returns if
+     * {@code addressBookSaver} is null.
+     */
+    public LogicManager(Model model, Storage storage, WriteBehindSaver addressBookSaver) {
         this.model = model;
         this.storage = storage;
+        this.addressBookSaver = addressBookSaver;
         addressBookParser = new AddressBookParser();
+        if (addressBookSaver != null) {
+            addressBookSaver.setFailureHandler(e -> {
+                savedVersion = UNSAVED_VERSION;
+                saveFailureHandler.accept(getSaveErrorMessage(e));
+            });
+        }
     }
 
     @Override
@@ -53,19 +81,55 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        LoadProgress loadProgress = model.getLoadProgress().getValue();
+        if (command.requiresAddressBook() && loadProgress.isFailed()) {
+            throw new CommandException(Messages.MESSAGE_LOAD_FAILED);
+        }
+        if (command.requiresAddressBook() && !loadProgress.isDone()) {
+            throw new CommandException(Messages.MESSAGE_STILL_LOADING);
+        }
 
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            commandResult = command.execute(model);
+        } finally {
+            model.commitAddressBook();
+        }
+
+        long version = model.getAddressBookVersion();
+        if (version == savedVersion) {
+            logger.fine("Address book unchanged, not saving");
+            return commandResult;
+        }
+
+        if (addressBookSaver != null) {
+            savedVersion = version;
+            addressBookSaver.save(model.getAddressBookSnapshot());
+            return commandResult;
+        }
+
+        try {
+            storage.saveAddressBook(model.getAddressBookSnapshot());
+            savedVersion = version;
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(getSaveErrorMessage(ioe), ioe);
         }
 
         return commandResult;
     }
 
+    @Override
+    public void setSaveFailureHandler(Consumer<String> handler) {
+        requireNonNull(handler);
+        saveFailureHandler = handler;
+    }
+
+    private static String getSaveErrorMessage(IOException e) {
+        if (e instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, e.getMessage());
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -105,4 +169,9 @@ public class LogicManager implements Logic {
     public ObjectProperty<TabIndicator> getTabIndicator() {
         return model.getTabIndicator();
     }
+
+    @Override
+    public ObjectProperty<LoadProgress> getLoadProgress() {
+        return model.getLoadProgress();
+    }
 }
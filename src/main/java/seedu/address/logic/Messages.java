@@ -16,6 +16,10 @@ public class Messages {
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
     public static final String MESSAGE_INVALID_PERSON_DISPLAYED_INDEX = "The person index provided is invalid";
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d persons listed!";
+    public static final String MESSAGE_STILL_LOADING =
+            "The address book is still being loaded. Please try again once the status bar shows it is done.";
+    public static final String MESSAGE_LOAD_FAILED =
+            "The address book could not be loaded completely, so it cannot be used. Please restart the app.";
     public static final String MESSAGE_DUPLICATE_FIELDS =
                 "Multiple values specified for the following single-valued field(s): ";
 
@@ -0,0 +1,138 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.LoadProgress;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Loads the address book into a model that is already on screen, so that the UI does not wait for the data file.
+ * The address book is read on a background thread. Its persons, and then its loans, are then added to the model in
+ * batches on the UI thread. Batches are handed to the UI thread together, in a single task that adds as many of them
+ * as fit into a short time slice and hands over another task for the rest, so that the UI stays responsive.
+ * How far loading has got is published through {@link Model#getLoadProgress()}. If a batch fails, the batches left
+ * are dropped and loading ends at {@link LoadProgress#FAILED}, so that the partly loaded address book is never saved.
+ */
+public class ProgressiveLoader {
+
+    static final int BATCH_SIZE = 1000;
+    static final long TIME_SLICE_NANOS = TimeUnit.MILLISECONDS.toNanos(8);
+
+    private static final Logger logger = LogsCenter.getLogger(ProgressiveLoader.class);
+
+    private final Model model;
+    private final Executor uiExecutor;
+    private final Queue<Runnable> pendingBatches = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean isDrainScheduled = new AtomicBoolean();
+    private volatile boolean isFailed;
+
+    /**
+     * Constructs a {@code ProgressiveLoader} that adds the address book to {@code model}, which must not have any
+     * persons or loans yet, by handing tasks to {@code uiExecutor}.
+     */
+    public ProgressiveLoader(Model model, Executor uiExecutor) {
+        requireNonNull(model);
+        requireNonNull(uiExecutor);
+        this.model = model;
+        this.uiExecutor = uiExecutor;
+    }
+
+    /**
+     * Marks the model as loading and starts loading the address book given by {@code reader} on a new background
+     * thread. {@code reader} should handle its own failures; if it throws anyway, loading ends with no data.
+     */
+    public void start(Supplier<? extends ReadOnlyAddressBook> reader) {
+        requireNonNull(reader);
+        model.getLoadProgress().setValue(LoadProgress.READING);
+        Thread thread = new Thread(() -> load(reader), "address-book-loader");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Reads the address book given by {@code reader} on the calling thread and hands it to the UI thread in batches.
+     */
+    void load(Supplier<? extends ReadOnlyAddressBook> reader) {
+        ReadOnlyAddressBook addressBook;
+        try {
+            addressBook = reader.get();
+        } catch (RuntimeException e) {
+            logger.severe("Failed to load address book: " + StringUtil.getDetails(e));
+            addressBook = new AddressBook();
+        }
+
+        enqueueBatches(addressBook.getPersonList(), LoadProgress.Stage.PERSONS, model::addLoadedPersons);
+        enqueueBatches(addressBook.getLoanList(), LoadProgress.Stage.LOANS, model::addLoadedLoans);
+        int personCount = addressBook.getPersonList().size();
+        int loanCount = addressBook.getLoanList().size();
+        enqueue(() -> {
+            model.getLoadProgress().setValue(LoadProgress.DONE);
+            logger.info("Loaded " + personCount + " persons and " + loanCount + " loans");
+        });
+    }
+
+    private <T> void enqueueBatches(List<T> items, LoadProgress.Stage stage, Consumer<List<T>> addBatch) {
+        int total = items.size();
+        enqueue(() -> model.getLoadProgress().setValue(new LoadProgress(stage, 0, total)));
+        for (int from = 0; from < total; from += BATCH_SIZE) {
+            List<T> batch = new ArrayList<>(items.subList(from, Math.min(from + BATCH_SIZE, total)));
+            int loaded = from + batch.size();
+            enqueue(() -> {
+                addBatch.accept(batch);
+                model.getLoadProgress().setValue(new LoadProgress(stage, loaded, total));
+            });
+        }
+    }
+
+    private void enqueue(Runnable batch) {
+        if (isFailed) {
+            return;
+        }
+        pendingBatches.add(batch);
+        if (isDrainScheduled.compareAndSet(false, true)) {
+            uiExecutor.execute(this::drain);
+        }
+    }
+
+    /**
+     * Runs pending batches on the UI thread until the time slice is used up, then hands over another task for the
+     * batches that are left.
+     */
+    private void drain() {
+        long deadline = System.nanoTime() + TIME_SLICE_NANOS;
+        try {
+            for (Runnable batch = pendingBatches.poll(); batch != null; batch = pendingBatches.poll()) {
+                batch.run();
+                if (System.nanoTime() >= deadline) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.severe("Failed to add loaded data to the model: " + StringUtil.getDetails(e));
+            isFailed = true;
+            pendingBatches.clear();
+            model.getLoadProgress().setValue(LoadProgress.FAILED);
+        } finally {
+            isDrainScheduled.set(false);
+        }
+        // batches enqueued after the last poll found the drain still scheduled, so they are picked up here
+        if (!pendingBatches.isEmpty() && isDrainScheduled.compareAndSet(false, true)) {
+            uiExecutor.execute(this::drain);
+        }
+    }
+}
@@ -41,8 +41,7 @@ public class AnalyticsCommand extends Command {
         }
 
         Person targetPerson = lastShownList.get(targetIndex.getZeroBased());
-        model.updateFilteredLoanList(loan -> loan.isAssignedTo(targetPerson));
-        Analytics targetAnalytics = Analytics.getAnalytics(model.getSortedLoanList());
+        Analytics targetAnalytics = model.getLoanAnalytics(targetPerson);
 
         model.generateDashboardData(targetAnalytics);
         model.setIsAnalyticsTab(true);
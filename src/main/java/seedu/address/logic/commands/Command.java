@@ -17,4 +17,11 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if the command uses the address book, and so can only be executed once it has been loaded.
+     */
+    public boolean requiresAddressBook() {
+        return true;
+    }
+
 }
@@ -6,7 +6,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_RETURN_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_START_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_VALUE;
 
-import java.math.BigDecimal;
 import java.util.Date;
 import java.util.List;
 import java.util.Objects;
@@ -15,11 +14,10 @@ import java.util.Optional;
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.CollectionUtil;
 import seedu.address.commons.util.ToStringBuilder;
-import seedu.address.logic.commands.LinkLoanCommand.LinkLoanDescriptor;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Loan;
-import seedu.address.model.person.Person;
+import seedu.address.model.person.Money;
 
 /**
  * Edits a loan of a person in the address book.
@@ -78,10 +76,8 @@ public class EditLoanCommand extends Command {
         }
 
         Loan loanToEdit = lastShownList.get(loanIndex.getZeroBased());
-        Person linkedPerson = loanToEdit.getAssignee();
-        LinkLoanDescriptor updatedLoanDetails = generateEditedLoanDetails(loanToEdit, editedDetails);
-        model.deleteLoan(loanToEdit);
-        Loan editedLoan = model.addLoan(updatedLoanDetails, linkedPerson);
+        Loan editedLoan = createEditedLoan(loanToEdit, editedDetails);
+        model.setLoan(loanToEdit, editedLoan);
 
         return new CommandResult(generateSuccessMessage(editedLoan), false, false, true);
     }
@@ -93,16 +89,21 @@ public class EditLoanCommand extends Command {
         return String.format(MESSAGE_SUCCESS, editedLoan);
     }
 
-    private LinkLoanDescriptor generateEditedLoanDetails(Loan loanToEdit, EditLoanDescriptor editedDetails)
+    /**
+     * Creates and returns a {@code Loan} with the details of {@code loanToEdit} edited with {@code editedDetails}.
+     * The edited loan keeps the id, return status and assignee of {@code loanToEdit}.
+     */
+    private static Loan createEditedLoan(Loan loanToEdit, EditLoanDescriptor editedDetails)
             throws CommandException {
-        BigDecimal newValue = editedDetails.getValue().orElse(loanToEdit.getValue());
+        Money newValue = editedDetails.getValue().orElse(loanToEdit.getValue());
         Date newStartDate = editedDetails.getStartDate().orElse(loanToEdit.getStartDate());
         Date newReturnDate = editedDetails.getReturnDate().orElse(loanToEdit.getReturnDate());
         requireAllNonNull(newValue, newStartDate, newReturnDate);
         if (!Loan.isValidDates(newStartDate, newReturnDate)) {
             throw new CommandException(Loan.DATE_CONSTRAINTS);
         }
-        return new LinkLoanDescriptor(newValue, newStartDate, newReturnDate);
+        return new Loan(loanToEdit.getId(), newValue, newStartDate, newReturnDate, loanToEdit.isReturned(),
+                loanToEdit.getAssignee());
     }
 
     @Override
@@ -133,7 +134,7 @@ public class EditLoanCommand extends Command {
      * Stores the details of the loan that is edited.
      */
     public static class EditLoanDescriptor {
-        private BigDecimal value = null;
+        private Money value = null;
         private Date startDate = null;
         private Date returnDate = null;
 
@@ -149,11 +150,11 @@ public class EditLoanCommand extends Command {
             return CollectionUtil.isAnyNonNull(value, startDate, returnDate);
         }
 
-        public void setValue(BigDecimal value) {
+        public void setValue(Money value) {
             this.value = value;
         }
 
-        public Optional<BigDecimal> getValue() {
+        public Optional<Money> getValue() {
             return Optional.ofNullable(value);
         }
 
@@ -6,7 +6,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_RETURN_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_START_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_VALUE;
 
-import java.math.BigDecimal;
 import java.util.Date;
 import java.util.List;
 import java.util.Objects;
@@ -17,6 +16,7 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Loan;
+import seedu.address.model.person.Money;
 import seedu.address.model.person.Person;
 
 /**
@@ -107,7 +107,7 @@ public class LinkLoanCommand extends Command {
      * Stores the details of the loan to be linked.
      */
     public static class LinkLoanDescriptor {
-        private BigDecimal value;
+        private Money value;
         private Date startDate;
         private Date returnDate;
 
@@ -117,7 +117,7 @@ public class LinkLoanCommand extends Command {
          * @param startDate The start date of the loan
          * @param returnDate The date which the loan must be returned by
          */
-        public LinkLoanDescriptor(BigDecimal value, Date startDate, Date returnDate) {
+        public LinkLoanDescriptor(Money value, Date startDate, Date returnDate) {
             this.value = value;
             this.startDate = startDate;
             this.returnDate = returnDate;
@@ -132,11 +132,11 @@ public class LinkLoanCommand extends Command {
             setReturnDate(toCopy.returnDate);
         }
 
-        public void setValue(BigDecimal value) {
+        public void setValue(Money value) {
             this.value = value;
         }
 
-        public BigDecimal getValue() {
+        public Money getValue() {
             return value;
         }
 
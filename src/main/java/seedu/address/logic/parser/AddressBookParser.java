@@ -22,6 +22,8 @@ import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.LinkLoanCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.MarkLoanCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.UnmarkLoanCommand;
 import seedu.address.logic.commands.ViewLoanRelatedCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -104,6 +106,12 @@ public class AddressBookParser {
         case EditLoanCommand.COMMAND_WORD:
             return new EditLoanCommandParser().parse(arguments);
 
+        case UndoCommand.COMMAND_WORD:
+            return new UndoCommand();
+
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
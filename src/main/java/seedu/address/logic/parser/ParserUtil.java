@@ -18,6 +18,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Loan;
+import seedu.address.model.person.Money;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Phone;
 import seedu.address.model.tag.Tag;
@@ -136,7 +137,7 @@ public class ParserUtil {
     public static LinkLoanDescriptor parseLoan(String value, String startDate, String returnDate)
             throws ParseException {
         requireAllNonNull(value, startDate, returnDate);
-        BigDecimal convertedValue = parseValue(value);
+        Money convertedValue = parseValue(value);
         Date convertedStartDate = parseDate(startDate);
         Date convertedReturnDate = parseDate(returnDate);
         if (!Loan.isValidDates(convertedStartDate, convertedReturnDate)) {
@@ -146,9 +147,9 @@ public class ParserUtil {
     }
 
     /**
-     * Parses loan {@code String value} into a {@code BigDecimal}.
+     * Parses loan {@code String value} into a {@code Money}.
      */
-    public static BigDecimal parseValue(String value) throws ParseException {
+    public static Money parseValue(String value) throws ParseException {
         requireNonNull(value);
         String trimmedValue = value.trim();
         BigDecimal convertedValue;
@@ -161,7 +162,7 @@ public class ParserUtil {
         if (!Loan.isValidValue(convertedValue)) {
             throw new ParseException(Loan.VALUE_CONSTRAINTS);
         }
-        return convertedValue;
+        return Money.of(convertedValue);
     }
 
     /**
@@ -5,9 +5,12 @@ import static java.util.Objects.requireNonNull;
 import java.util.List;
 import java.util.Objects;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.LinkLoanCommand;
+import seedu.address.model.history.EditLog;
+import seedu.address.model.person.Analytics;
 import seedu.address.model.person.Loan;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniqueLoanList;
@@ -21,6 +24,8 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
     private final UniqueLoanList loans;
+    private final EditLog editLog;
+    private long version;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -31,8 +36,12 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
 
     {
-        persons = new UniquePersonList();
-        loans = new UniqueLoanList();
+        editLog = new EditLog();
+        persons = new UniquePersonList(editLog);
+        loans = new UniqueLoanList(editLog);
+        // every change to the data, including undoing one, publishes a change to one of the lists
+        persons.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> version++);
+        loans.asUnmodifiableObservableList().addListener((ListChangeListener<Loan>) change -> version++);
     }
 
     public AddressBook() {
@@ -74,6 +83,47 @@ public class AddressBook implements ReadOnlyAddressBook {
         setLoans(newData.getLoanList());
     }
 
+    /**
+     * Returns an immutable snapshot of this {@code AddressBook} in constant time.
+     */
+    public AddressBookSnapshot snapshot() {
+        return new AddressBookSnapshot(persons.snapshot(), loans.snapshot());
+    }
+
+    /**
+     * Runs {@code changes} against this {@code AddressBook} with the notifications of its lists held back, so that
+     * each list publishes what {@code changes} did to it as one change, whether {@code changes} completes or throws.
+     * Listeners of the lists, and views over them, are only brought up to date once {@code changes} is done.
+     */
+    public void batch(Runnable changes) {
+        requireNonNull(changes);
+        persons.beginBatch();
+        loans.beginBatch();
+        try {
+            changes.run();
+        } finally {
+            loans.endBatch();
+            persons.endBatch();
+        }
+    }
+
+    /**
+     * Returns the log that records the edits made to this {@code AddressBook}.
+     * Edits are only recorded once recording has been switched on.
+     */
+    public EditLog getEditLog() {
+        return editLog;
+    }
+
+    /**
+     * Returns the number of changes made to this {@code AddressBook} so far.
+     * The version is unchanged if and only if nothing has changed, except that it may also move on when rows are
+     * refreshed without their data changing.
+     */
+    public long getVersion() {
+        return version;
+    }
+
     //// person-level operations
 
     /**
@@ -100,6 +150,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.add(p);
     }
 
+    /**
+     * Adds {@code persons} to the end of the address book as a single change.
+     * None of them may already exist in the address book.
+     */
+    public void addPersons(List<Person> persons) {
+        this.persons.addAll(persons);
+    }
+
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -139,9 +197,25 @@ public class AddressBook implements ReadOnlyAddressBook {
         loans.addLoan(l);
     }
 
+    /**
+     * Adds {@code loans} to the end of the address book as a single change.
+     * None of them may already exist in the address book, and their assignees must be in the address book.
+     */
+    public void addLoans(List<Loan> loans) {
+        this.loans.addLoans(loans);
+    }
+
     public Loan addLoan(LinkLoanCommand.LinkLoanDescriptor loanDescription, Person assignee) {
         return loans.addLoan(loanDescription, assignee);
     }
+    /**
+     * Replaces the given loan {@code target} in the list with {@code editedLoan}, keeping its position.
+     * {@code target} must exist in the address book.
+     */
+    public void setLoan(Loan target, Loan editedLoan) {
+        loans.setLoan(target, editedLoan);
+    }
+
     /**
      * Marks a loan in the address book.
      * The loan must exist in the address book.
@@ -165,6 +239,32 @@ public class AddressBook implements ReadOnlyAddressBook {
         loans.removeLoan(key);
     }
 
+    /**
+     * Returns the loans assigned to {@code assignee}, without scanning the whole loan list.
+     */
+    public List<Loan> getLoansAssignedTo(Person assignee) {
+        requireNonNull(assignee);
+        return loans.getLoansAssignedTo(assignee);
+    }
+
+    /**
+     * Returns the analytics of the loans assigned to {@code assignee}, read from running totals.
+     */
+    public Analytics getLoanAnalytics(Person assignee) {
+        requireNonNull(assignee);
+        return Analytics.fromAggregate(loans.getAggregateOf(assignee));
+    }
+
+    /**
+     * Moves the overdue state of the loans in this address book to {@code today}.
+     *
+     * @param today The current day as an epoch day.
+     * @return The loans that became overdue, in order of return date.
+     */
+    public List<Loan> rollOverDay(int today) {
+        return loans.rollOverTo(today);
+    }
+
     //// util methods
 
     @Override
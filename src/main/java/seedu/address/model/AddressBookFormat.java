@@ -0,0 +1,13 @@
+package seedu.address.model;
+
+/**
+ * The formats in which the address book can be saved.
+ */
+public enum AddressBookFormat {
+    /** A human-readable JSON file, which can also be edited by hand or exchanged with other tools. */
+    JSON,
+    /** A compact binary snapshot beside the JSON file, which is faster to load. */
+    BINARY,
+    /** Segment files and a manifest in a directory beside the JSON file, of which a save only rewrites changed ones. */
+    SEGMENTED
+}
@@ -0,0 +1,74 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentIntMap;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Loan;
+import seedu.address.model.person.LoanListSnapshot;
+import seedu.address.model.person.Person;
+
+/**
+ * An immutable view of an {@code AddressBook} at one point in time.
+ * Taking a snapshot takes constant time because it shares its structure with the address book. The lists are only
+ * built when first read, so a snapshot can be handed to another thread and read there without locking.
+ */
+public final class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final PersistentIntMap<Person> persons;
+    private final LoanListSnapshot loans;
+    private ObservableList<Person> personList;
+    private ObservableList<Loan> loanList;
+
+    /**
+     * Constructs an {@code AddressBookSnapshot} of {@code persons}, in list order, and {@code loans}.
+     */
+    public AddressBookSnapshot(PersistentIntMap<Person> persons, LoanListSnapshot loans) {
+        requireAllNonNull(persons, loans);
+        this.persons = persons;
+        this.loans = loans;
+    }
+
+    /**
+     * Returns the persons of this snapshot by their position key, which orders them as in the address book.
+     */
+    public PersistentIntMap<Person> getPersonsByPosition() {
+        return persons;
+    }
+
+    public LoanListSnapshot getLoanSnapshot() {
+        return loans;
+    }
+
+    @Override
+    public synchronized ObservableList<Person> getPersonList() {
+        if (personList == null) {
+            personList = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(persons.values()));
+        }
+        return personList;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The loans are the frozen loans of the snapshot, and must not be changed. Adding them to an address book adds
+     * copies of them.
+     */
+    @Override
+    public synchronized ObservableList<Loan> getLoanList() {
+        if (loanList == null) {
+            loanList = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(loans.getLoans()));
+        }
+        return loanList;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons.size())
+                .add("loans", loans.size())
+                .toString();
+    }
+}
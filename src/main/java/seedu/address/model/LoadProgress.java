@@ -0,0 +1,93 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents how far the address book has been loaded into the model at startup.
+ * The data file is read first, then its persons are added to the model, and then its loans. Loading stops at
+ * {@link Stage#FAILED} if adding a batch of them fails, leaving the model with only part of the address book.
+ * Guarantees: immutable; the number of items loaded is between 0 and the total.
+ */
+public class LoadProgress {
+
+    /**
+     * The stages of loading, in the order they happen.
+     */
+    public enum Stage {
+        READING, PERSONS, LOANS, DONE, FAILED
+    }
+
+    public static final LoadProgress READING = new LoadProgress(Stage.READING, 0, 0);
+    public static final LoadProgress DONE = new LoadProgress(Stage.DONE, 0, 0);
+    public static final LoadProgress FAILED = new LoadProgress(Stage.FAILED, 0, 0);
+
+    private final Stage stage;
+    private final int loaded;
+    private final int total;
+
+    /**
+     * Constructs a {@code LoadProgress} at {@code stage}, which has added {@code loaded} of {@code total} items.
+     */
+    public LoadProgress(Stage stage, int loaded, int total) {
+        requireNonNull(stage);
+        assert 0 <= loaded && loaded <= total;
+        this.stage = stage;
+        this.loaded = loaded;
+        this.total = total;
+    }
+
+    public Stage getStage() {
+        return stage;
+    }
+
+    public int getLoaded() {
+        return loaded;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public boolean isDone() {
+        return stage == Stage.DONE;
+    }
+
+    public boolean isFailed() {
+        return stage == Stage.FAILED;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof LoadProgress)) {
+            return false;
+        }
+
+        LoadProgress otherLoadProgress = (LoadProgress) other;
+        return stage == otherLoadProgress.stage
+                && loaded == otherLoadProgress.loaded
+                && total == otherLoadProgress.total;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(stage, loaded, total);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("stage", stage)
+                .add("loaded", loaded)
+                .add("total", total)
+                .toString();
+    }
+}
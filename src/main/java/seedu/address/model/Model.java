@@ -1,6 +1,8 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javafx.beans.property.ObjectProperty;
@@ -125,6 +127,90 @@ public interface Model {
 
     Loan addLoan(LinkLoanCommand.LinkLoanDescriptor loanDescription, Person assignee);
 
+    /**
+     * Adds {@code persons}, which have been loaded from storage, to the end of the address book as a single change.
+     * None of them may already exist in the address book. Adding them is not recorded in the undo history.
+     */
+    void addLoadedPersons(List<Person> persons);
+
+    /**
+     * Adds {@code loans}, which have been loaded from storage, to the end of the address book as a single change.
+     * None of them may already exist in the address book, and their assignees must be in the address book.
+     * Adding them is not recorded in the undo history.
+     */
+    void addLoadedLoans(List<Loan> loans);
+
+    /**
+     * Replaces the given loan {@code target} with {@code editedLoan} in place.
+     * {@code target} must exist in the address book.
+     */
+    void setLoan(Loan target, Loan editedLoan);
+
+    /**
+     * Returns the loans assigned to {@code assignee}.
+     * Unlike filtering the loan list, this only touches the loans of {@code assignee}.
+     */
+    List<Loan> getLoansAssignedTo(Person assignee);
+
+    /**
+     * Returns the analytics of the loans assigned to {@code assignee}.
+     * The analytics are read from running totals instead of being computed from every loan.
+     */
+    Analytics getLoanAnalytics(Person assignee);
+
+    /**
+     * Moves the overdue state of all loans to the current day.
+     * Called once after every midnight.
+     */
+    void rollOverDay();
+
+    /**
+     * Returns an immutable snapshot of the AddressBook, taken in constant time.
+     * The snapshot can be read from any thread while the AddressBook keeps changing.
+     */
+    ReadOnlyAddressBook getAddressBookSnapshot();
+
+    /**
+     * Returns the version of the AddressBook, which moves on whenever the AddressBook changes.
+     * An AddressBook with an unchanged version need not be saved again.
+     */
+    long getAddressBookVersion();
+
+    /**
+     * Applies {@code unitOfWork} to this model as a single unit.
+     * The changes made by {@code unitOfWork} become visible together, with one change to each list, and are undone
+     * together with the rest of the current step.
+     * If {@code unitOfWork} throws, none of its changes are applied and the exception is rethrown.
+     * The filtered lists do not reflect the changes until {@code unitOfWork} completes.
+     */
+    void batch(Consumer<Model> unitOfWork);
+
+    /**
+     * Ends the current undoable step of the AddressBook. Called once after every command.
+     */
+    void commitAddressBook();
+
+    /**
+     * Returns true if there is a step of the AddressBook that can be undone.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Reverses the latest step of the AddressBook.
+     * Only the edits made in that step are reversed.
+     */
+    void undoAddressBook();
+
+    /**
+     * Returns true if there is an undone step of the AddressBook that can be redone.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Repeats the latest undone step of the AddressBook.
+     */
+    void redoAddressBook();
+
     /**
      * Returns an unmodifiable view of the filtered person list
      */
@@ -187,4 +273,10 @@ public interface Model {
     void setIsShowLoaneeInfo(Boolean isShowLoaneeInfo);
 
     ObjectProperty<TabIndicator> getTabIndicator();
+
+    /**
+     * Returns how far the address book has been loaded from storage.
+     * Commands that use the address book must only be executed once loading is done.
+     */
+    ObjectProperty<LoadProgress> getLoadProgress();
 }
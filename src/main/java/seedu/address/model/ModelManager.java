@@ -3,9 +3,10 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.math.BigDecimal;
 import java.nio.file.Path;
 import java.util.Date;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -14,12 +15,15 @@ import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
+import seedu.address.commons.core.DayClock;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.LinkLoanCommand;
 import seedu.address.model.analytics.DashboardData;
+import seedu.address.model.history.EditLog;
 import seedu.address.model.person.Analytics;
 import seedu.address.model.person.Loan;
+import seedu.address.model.person.Money;
 import seedu.address.model.person.Person;
 import seedu.address.model.tabindicator.TabIndicator;
 
@@ -38,6 +42,12 @@ public class ModelManager implements Model {
             false, true, false, false));
 
     private final ObjectProperty<DashboardData> dashboardData = new SimpleObjectProperty<>();
+    private final ObjectProperty<LoadProgress> loadProgress = new SimpleObjectProperty<>(LoadProgress.DONE);
+
+    // filters chosen during a batch, applied once the lists have published its changes
+    private boolean isBatching;
+    private Predicate<? super Person> pendingPersonPredicate;
+    private Predicate<? super Loan> pendingLoanPredicate;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -53,6 +63,7 @@ public class ModelManager implements Model {
         filteredLoans = new FilteredList<>(this.addressBook.getLoanList());
         sortedLoans = new SortedList<>(filteredLoans, Loan::compareTo);
         dashboardData.setValue(null);
+        this.addressBook.getEditLog().setRecording(true);
     }
 
     public ModelManager() {
@@ -151,6 +162,56 @@ public class ModelManager implements Model {
         return addressBook.addLoan(loanDescription, assignee);
     }
 
+    @Override
+    public void addLoadedPersons(List<Person> persons) {
+        requireNonNull(persons);
+        addWithoutRecording(() -> addressBook.addPersons(persons));
+    }
+
+    @Override
+    public void addLoadedLoans(List<Loan> loans) {
+        requireNonNull(loans);
+        addWithoutRecording(() -> addressBook.addLoans(loans));
+    }
+
+    /**
+     * Runs {@code addition} without recording it in the undo history, as the data loaded was already there when the
+     * address book was saved.
+     */
+    private void addWithoutRecording(Runnable addition) {
+        EditLog editLog = addressBook.getEditLog();
+        editLog.setRecording(false);
+        try {
+            addition.run();
+        } finally {
+            editLog.setRecording(true);
+        }
+    }
+
+    @Override
+    public void setLoan(Loan target, Loan editedLoan) {
+        requireAllNonNull(target, editedLoan);
+        addressBook.setLoan(target, editedLoan);
+    }
+
+    @Override
+    public List<Loan> getLoansAssignedTo(Person assignee) {
+        requireNonNull(assignee);
+        return addressBook.getLoansAssignedTo(assignee);
+    }
+
+    @Override
+    public Analytics getLoanAnalytics(Person assignee) {
+        requireNonNull(assignee);
+        return addressBook.getLoanAnalytics(assignee);
+    }
+
+    @Override
+    public void rollOverDay() {
+        List<Loan> newlyOverdueLoans = addressBook.rollOverDay(DayClock.get().today());
+        logger.info("Rolled over to a new day, " + newlyOverdueLoans.size() + " loans became overdue");
+    }
+
     @Override
     public void markLoan(Loan loanToMark) {
         addressBook.markLoan(loanToMark);
@@ -161,6 +222,84 @@ public class ModelManager implements Model {
         addressBook.unmarkLoan(loanToUnmark);
     }
 
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        return addressBook.snapshot();
+    }
+
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
+    /**
+     * {@inheritDoc}
+     * The unit of work changes this model in place, with the notifications of the lists held back, and its edits
+     * become part of the current undoable step. If it throws, its edits are rolled back from the undo history before
+     * the lists publish anything, and the preferences and view state are restored.
+     * The filtered lists are only brought up to date, with any filters the unit of work chose, once it completes.
+     */
+    @Override
+    public void batch(Consumer<Model> unitOfWork) {
+        requireNonNull(unitOfWork);
+        assert !isBatching : "Batches cannot be nested";
+        EditLog editLog = addressBook.getEditLog();
+        assert editLog.isRecording() : "A batch can only be rolled back from its recorded edits";
+        int mark = editLog.mark();
+        UserPrefs previousUserPrefs = new UserPrefs(userPrefs);
+        TabIndicator previousTabIndicator = tabIndicator.getValue();
+        DashboardData previousDashboardData = dashboardData.getValue();
+        pendingPersonPredicate = filteredPersons.getPredicate();
+        pendingLoanPredicate = filteredLoans.getPredicate();
+        isBatching = true;
+        try {
+            addressBook.batch(() -> {
+                try {
+                    unitOfWork.accept(this);
+                } catch (RuntimeException | Error e) {
+                    editLog.rollBackTo(mark);
+                    throw e;
+                }
+            });
+        } catch (RuntimeException | Error e) {
+            userPrefs.resetData(previousUserPrefs);
+            tabIndicator.setValue(previousTabIndicator);
+            dashboardData.setValue(previousDashboardData);
+            throw e;
+        } finally {
+            isBatching = false;
+        }
+
+        setPersonPredicate(pendingPersonPredicate);
+        setLoanPredicate(pendingLoanPredicate);
+        logger.fine("Committed a batch of changes");
+    }
+
+    @Override
+    public void commitAddressBook() {
+        addressBook.getEditLog().commit();
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return addressBook.getEditLog().canUndo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        addressBook.getEditLog().undo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return addressBook.getEditLog().canRedo();
+    }
+
+    @Override
+    public void redoAddressBook() {
+        addressBook.getEditLog().redo();
+    }
+
     //=========== Filtered Lists Accessors =============================================================
 
     /**
@@ -175,7 +314,23 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        setPersonPredicate(predicate);
+    }
+
+    private void setPersonPredicate(Predicate<? super Person> predicate) {
+        if (isBatching) {
+            pendingPersonPredicate = predicate;
+        } else if (predicate != filteredPersons.getPredicate()) {
+            filteredPersons.setPredicate(predicate);
+        }
+    }
+
+    private void setLoanPredicate(Predicate<? super Loan> predicate) {
+        if (isBatching) {
+            pendingLoanPredicate = predicate;
+        } else if (predicate != filteredLoans.getPredicate()) {
+            filteredLoans.setPredicate(predicate);
+        }
     }
 
     @Override
@@ -189,7 +344,7 @@ public class ModelManager implements Model {
         Predicate<Loan> secondPredicate =
                 this.tabIndicator.getValue().getIsShowAllLoans() ? PREDICATE_SHOW_ALL_LOANS
                         : PREDICATE_SHOW_ALL_ACTIVE_LOANS;
-        filteredLoans.setPredicate(predicate.and(secondPredicate));
+        setLoanPredicate(predicate.and(secondPredicate));
     }
 
     @Override
@@ -245,7 +400,7 @@ public class ModelManager implements Model {
 
     @Override
     public void generateDashboardData(Analytics analytics) {
-        BigDecimal impactBenchmark = this.addressBook.getUniqueLoanList().getMaxLoanValue();
+        Money impactBenchmark = this.addressBook.getUniqueLoanList().getMaxLoanValue();
         Date urgencyBenchmark = this.addressBook.getUniqueLoanList().getEarliestReturnDate();
         dashboardData.setValue(new DashboardData(analytics, impactBenchmark, urgencyBenchmark));
     }
@@ -264,4 +419,9 @@ public class ModelManager implements Model {
     public ObjectProperty<TabIndicator> getTabIndicator() {
         return this.tabIndicator;
     }
+
+    @Override
+    public ObjectProperty<LoadProgress> getLoadProgress() {
+        return loadProgress;
+    }
 }
@@ -3,12 +3,12 @@ package seedu.address.model.analytics;
 import static java.util.Objects.requireNonNull;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.time.LocalDate;
-import java.time.ZoneId;
 import java.util.Date;
 
+import seedu.address.commons.core.DayClock;
+import seedu.address.commons.util.DateUtil;
 import seedu.address.model.person.Analytics;
+import seedu.address.model.person.Money;
 
 
 /**
@@ -19,7 +19,7 @@ import seedu.address.model.person.Analytics;
  */
 public class DashboardData {
     private final Analytics analytics;
-    private final BigDecimal maxLoanValue;
+    private final Money maxLoanValue;
     private final Date earliestReturnDate;
 
     /**
@@ -29,7 +29,7 @@ public class DashboardData {
      * @param maxLoanValue maximum loan value of all loans
      * @param earliestReturnDate earliest return date of all loans (not returned and not overdue)
      */
-    public DashboardData(Analytics analytics, BigDecimal maxLoanValue, Date earliestReturnDate) {
+    public DashboardData(Analytics analytics, Money maxLoanValue, Date earliestReturnDate) {
         requireNonNull(analytics);
         this.analytics = analytics;
         this.maxLoanValue = maxLoanValue;
@@ -40,7 +40,7 @@ public class DashboardData {
         return analytics;
     }
 
-    public BigDecimal getMaxLoanValue() {
+    public Money getMaxLoanValue() {
         return maxLoanValue;
     }
 
@@ -52,7 +52,7 @@ public class DashboardData {
      * @return impact index between 0 and 1
      */
     public BigDecimal getImpactIndex() {
-        return analytics.getAverageLoanValue().divide(maxLoanValue, 2, RoundingMode.HALF_UP);
+        return analytics.getAverageLoanValue().ratioTo(maxLoanValue);
     }
 
     /**
@@ -68,11 +68,11 @@ public class DashboardData {
             return null;
         }
 
-        LocalDate target = analytics.getEarliestReturnDate().toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
-        LocalDate benchmark = this.earliestReturnDate.toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
-        LocalDate now = LocalDate.now();
-        long dayDiffBenchmark = benchmark.toEpochDay() - now.toEpochDay();
-        long dayDiffTarget = target.toEpochDay() - now.toEpochDay();
+        int target = DateUtil.toEpochDay(analytics.getEarliestReturnDate());
+        int benchmark = DateUtil.toEpochDay(this.earliestReturnDate);
+        int today = DayClock.get().today();
+        long dayDiffBenchmark = benchmark - today;
+        long dayDiffTarget = target - today;
         if (dayDiffTarget == 0) {
             return 1.0f;
         }
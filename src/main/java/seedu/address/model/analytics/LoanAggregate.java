@@ -0,0 +1,229 @@
+package seedu.address.model.analytics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.TreeMap;
+
+import seedu.address.commons.core.DayClock;
+import seedu.address.commons.util.DateUtil;
+import seedu.address.model.person.Loan;
+import seedu.address.model.person.Money;
+
+/**
+ * Running totals over a changing set of loans, kept up to date as loans are added to and removed from the set.
+ * Counts and totals are read in constant time. Minimum and maximum values and dates come from ordered maps and
+ * take logarithmic time.
+ * Overdue figures are kept as of a given day, which starts as {@link DayClock#today()} and is moved forward by
+ * {@link #rollOverTo(int)}. Rolling over moves the loans that fell due in between into the overdue totals in one
+ * batch, using the active loans grouped by return day.
+ * A loan must be removed before any of its fields change and added back afterwards.
+ */
+public class LoanAggregate {
+
+    private int numLoans;
+    private int numActiveLoans;
+    private Money totalValueLoaned = Money.ZERO;
+    private Money totalValueActive = Money.ZERO;
+    private int numOverdueLoans;
+    private Money totalValueOverdue = Money.ZERO;
+    private int asOfDay;
+
+    private final TreeMap<Money, Integer> valueCounts = new TreeMap<>();
+    private final TreeMap<Integer, Integer> startDayCounts = new TreeMap<>();
+    private final TreeMap<Integer, ReturnDateBucket> activeLoansByReturnDay = new TreeMap<>();
+
+    /**
+     * Constructs an empty {@code LoanAggregate} whose overdue figures are as of today.
+     */
+    public LoanAggregate() {
+        this(DayClock.get().today());
+    }
+
+    /**
+     * Constructs an empty {@code LoanAggregate} whose overdue figures are as of {@code asOfDay}.
+     */
+    public LoanAggregate(int asOfDay) {
+        this.asOfDay = asOfDay;
+    }
+
+    /**
+     * Adds {@code loan} to the aggregated set.
+     */
+    public void add(Loan loan) {
+        requireNonNull(loan);
+        numLoans++;
+        totalValueLoaned = totalValueLoaned.add(loan.getValue());
+        valueCounts.merge(loan.getValue(), 1, Integer::sum);
+        startDayCounts.merge(loan.getStartDay(), 1, Integer::sum);
+        if (loan.isActive()) {
+            numActiveLoans++;
+            totalValueActive = totalValueActive.add(loan.getValue());
+            activeLoansByReturnDay.computeIfAbsent(loan.getReturnDay(), unused -> new ReturnDateBucket())
+                    .add(loan.getValue());
+            if (loan.getReturnDay() < asOfDay) {
+                numOverdueLoans++;
+                totalValueOverdue = totalValueOverdue.add(loan.getValue());
+            }
+        }
+    }
+
+    /**
+     * Removes {@code loan} from the aggregated set.
+     * {@code loan} must be in the same state as when it was added.
+     */
+    public void remove(Loan loan) {
+        requireNonNull(loan);
+        numLoans--;
+        totalValueLoaned = totalValueLoaned.subtract(loan.getValue());
+        decrement(valueCounts, loan.getValue());
+        decrement(startDayCounts, loan.getStartDay());
+        if (loan.isActive()) {
+            numActiveLoans--;
+            totalValueActive = totalValueActive.subtract(loan.getValue());
+            ReturnDateBucket bucket = activeLoansByReturnDay.get(loan.getReturnDay());
+            bucket.remove(loan.getValue());
+            if (bucket.count == 0) {
+                activeLoansByReturnDay.remove(loan.getReturnDay());
+            }
+            if (loan.getReturnDay() < asOfDay) {
+                numOverdueLoans--;
+                totalValueOverdue = totalValueOverdue.subtract(loan.getValue());
+            }
+        }
+    }
+
+    /**
+     * Moves the overdue figures to {@code today}.
+     * Only the loans whose return day lies between the previous day and {@code today} are visited.
+     *
+     * @param today The day to move to, which may also be earlier than the current one.
+     */
+    public void rollOverTo(int today) {
+        if (today > asOfDay) {
+            for (ReturnDateBucket bucket : activeLoansByReturnDay.subMap(asOfDay, true, today, false).values()) {
+                numOverdueLoans += bucket.count;
+                totalValueOverdue = totalValueOverdue.add(bucket.totalValue);
+            }
+        } else if (today < asOfDay) {
+            for (ReturnDateBucket bucket : activeLoansByReturnDay.subMap(today, true, asOfDay, false).values()) {
+                numOverdueLoans -= bucket.count;
+                totalValueOverdue = totalValueOverdue.subtract(bucket.totalValue);
+            }
+        }
+        asOfDay = today;
+    }
+
+    /**
+     * Removes all loans from the aggregated set.
+     */
+    public void clear() {
+        numLoans = 0;
+        numActiveLoans = 0;
+        totalValueLoaned = Money.ZERO;
+        totalValueActive = Money.ZERO;
+        numOverdueLoans = 0;
+        totalValueOverdue = Money.ZERO;
+        valueCounts.clear();
+        startDayCounts.clear();
+        activeLoansByReturnDay.clear();
+    }
+
+    private static <K> void decrement(Map<K, Integer> counts, K key) {
+        counts.computeIfPresent(key, (unused, count) -> count == 1 ? null : count - 1);
+    }
+
+    public int getNumLoans() {
+        return numLoans;
+    }
+
+    public int getNumActiveLoans() {
+        return numActiveLoans;
+    }
+
+    public Money getTotalValueLoaned() {
+        return totalValueLoaned;
+    }
+
+    public Money getTotalValueActive() {
+        return totalValueActive;
+    }
+
+    /**
+     * Returns the largest value of all loans, or zero if there are no loans.
+     */
+    public Money getMaxLoanValue() {
+        return valueCounts.isEmpty() ? Money.ZERO : valueCounts.lastKey();
+    }
+
+    /**
+     * Returns the earliest start date of all loans, or null if there are no loans.
+     */
+    public Date getEarliestLoanDate() {
+        return startDayCounts.isEmpty() ? null : DateUtil.toDate(startDayCounts.firstKey());
+    }
+
+    /**
+     * Returns the latest start date of all loans, or null if there are no loans.
+     */
+    public Date getLatestLoanDate() {
+        return startDayCounts.isEmpty() ? null : DateUtil.toDate(startDayCounts.lastKey());
+    }
+
+    public int getAsOfDay() {
+        return asOfDay;
+    }
+
+    /**
+     * Returns the number of loans that are overdue as of {@link #getAsOfDay()}.
+     */
+    public int getNumOverdueLoans() {
+        return numOverdueLoans;
+    }
+
+    /**
+     * Returns the total value of the loans that are overdue as of {@link #getAsOfDay()}.
+     */
+    public Money getTotalValueOverdue() {
+        return totalValueOverdue;
+    }
+
+    /**
+     * Returns the earliest return date of the active loans that are not overdue as of {@link #getAsOfDay()},
+     * or null if there are none.
+     */
+    public Date getEarliestReturnDate() {
+        Integer earliestReturnDay = activeLoansByReturnDay.ceilingKey(asOfDay);
+        return earliestReturnDay == null ? null : DateUtil.toDate(earliestReturnDay);
+    }
+
+    /**
+     * Returns the latest return date of the active loans that are not overdue as of {@link #getAsOfDay()},
+     * or null if there are none.
+     */
+    public Date getLatestReturnDate() {
+        if (activeLoansByReturnDay.isEmpty() || activeLoansByReturnDay.lastKey() < asOfDay) {
+            return null;
+        }
+        return DateUtil.toDate(activeLoansByReturnDay.lastKey());
+    }
+
+    /**
+     * Number and total value of the active loans sharing a return date.
+     */
+    private static class ReturnDateBucket {
+        private int count;
+        private Money totalValue = Money.ZERO;
+
+        void add(Money value) {
+            count++;
+            totalValue = totalValue.add(value);
+        }
+
+        void remove(Money value) {
+            count--;
+            totalValue = totalValue.subtract(value);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package seedu.address.model.history;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Records the edits made to an address book so that they can be undone and redone.
+ * Each edit is recorded as a pair of actions, one that reverses it and one that repeats it, which only capture what
+ * the edit changed. The edits recorded between two calls to {@link #commit()} form one step of the history, and at
+ * most {@code capacity} steps are kept.
+ * Nothing is recorded until recording is switched on, or while a step is being undone or redone.
+ */
+public class EditLog {
+
+    public static final int DEFAULT_CAPACITY = 100;
+
+    private final int capacity;
+    private final Deque<List<Edit>> undoSteps = new ArrayDeque<>();
+    private final Deque<List<Edit>> redoSteps = new ArrayDeque<>();
+    private List<Edit> pendingEdits = new ArrayList<>();
+    private boolean isRecording;
+    private boolean isReplaying;
+
+    /**
+     * Constructs an {@code EditLog} that keeps at most {@link #DEFAULT_CAPACITY} steps.
+     */
+    public EditLog() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an {@code EditLog} that keeps at most {@code capacity} steps.
+     */
+    public EditLog(int capacity) {
+        assert capacity > 0;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Starts or stops recording edits.
+     */
+    public void setRecording(boolean isRecording) {
+        this.isRecording = isRecording;
+    }
+
+    /**
+     * Returns true if edits are currently being recorded.
+     * Edits that are expensive to capture should only be captured if this is true.
+     */
+    public boolean isRecording() {
+        return isRecording && !isReplaying;
+    }
+
+    /**
+     * Records an edit that can be reversed by running {@code undo} and repeated by running {@code redo}.
+     */
+    public void record(Runnable undo, Runnable redo) {
+        requireAllNonNull(undo, redo);
+        if (isRecording()) {
+            pendingEdits.add(new Edit(undo, redo));
+        }
+    }
+
+    /**
+     * Ends the current step. Does nothing if no edit has been recorded since the previous step.
+     * Starting a new step discards the steps that could have been redone.
+     *
+     * @return True if a step was added to the history.
+     */
+    public boolean commit() {
+        if (pendingEdits.isEmpty()) {
+            return false;
+        }
+        undoSteps.push(pendingEdits);
+        if (undoSteps.size() > capacity) {
+            undoSteps.removeLast();
+        }
+        redoSteps.clear();
+        pendingEdits = new ArrayList<>();
+        return true;
+    }
+
+    /**
+     * Returns a mark of the edits recorded so far in the current step, which {@link #rollBackTo(int)} can return to.
+     */
+    public int mark() {
+        return pendingEdits.size();
+    }
+
+    /**
+     * Reverses the edits recorded in the current step since {@code mark} was taken, latest edit first, and discards
+     * them. The step must not have been committed since.
+     */
+    public void rollBackTo(int mark) {
+        assert mark >= 0 && mark <= pendingEdits.size();
+        List<Edit> rolledBack = pendingEdits.subList(mark, pendingEdits.size());
+        replay(() -> {
+            for (int i = rolledBack.size() - 1; i >= 0; i--) {
+                rolledBack.get(i).undo.run();
+            }
+        });
+        rolledBack.clear();
+    }
+
+    public boolean canUndo() {
+        return !undoSteps.isEmpty();
+    }
+
+    public boolean canRedo() {
+        return !redoSteps.isEmpty();
+    }
+
+    /**
+     * Reverses the edits of the latest step, latest edit first.
+     * Any edits not yet committed are committed as a step of their own first.
+     */
+    public void undo() {
+        commit();
+        assert canUndo();
+        List<Edit> step = undoSteps.pop();
+        replay(() -> {
+            for (int i = step.size() - 1; i >= 0; i--) {
+                step.get(i).undo.run();
+            }
+        });
+        redoSteps.push(step);
+    }
+
+    /**
+     * Repeats the edits of the latest undone step, in their original order.
+     */
+    public void redo() {
+        assert canRedo() && pendingEdits.isEmpty();
+        List<Edit> step = redoSteps.pop();
+        replay(() -> {
+            for (Edit edit : step) {
+                edit.redo.run();
+            }
+        });
+        undoSteps.push(step);
+    }
+
+    /**
+     * Discards all recorded edits and steps.
+     */
+    public void clear() {
+        undoSteps.clear();
+        redoSteps.clear();
+        pendingEdits = new ArrayList<>();
+    }
+
+    private void replay(Runnable actions) {
+        isReplaying = true;
+        try {
+            actions.run();
+        } finally {
+            isReplaying = false;
+        }
+    }
+
+    /**
+     * A recorded edit, as the actions that reverse and repeat it.
+     */
+    private static class Edit {
+        private final Runnable undo;
+        private final Runnable redo;
+
+        Edit(Runnable undo, Runnable redo) {
+            this.undo = undo;
+            this.redo = redo;
+        }
+    }
+}
@@ -1,10 +1,11 @@
 package seedu.address.model.person;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
+import static java.util.Objects.requireNonNull;
+
 import java.util.Date;
+import java.util.List;
 
-import javafx.collections.ObservableList;
+import seedu.address.model.analytics.LoanAggregate;
 
 /**
  * Represents the analytics of a LoanRecords object.
@@ -18,13 +19,13 @@ public class Analytics {
     private float propOverdueLoans; // proportion of loans that are overdue over active loans
     private float propActiveLoans; // proportion of loans that are active over total loans
 
-    private BigDecimal totalValueLoaned; // total value of all loans
-    private BigDecimal totalValueOverdue; // total value of all overdue loans
-    private BigDecimal totalValueActive; // total value of all active loans
+    private Money totalValueLoaned; // total value of all loans
+    private Money totalValueOverdue; // total value of all overdue loans
+    private Money totalValueActive; // total value of all active loans
 
-    private BigDecimal averageLoanValue; // average loan value of all loans
-    private BigDecimal averageOverdueValue; // average loan value of all overdue loans
-    private BigDecimal averageActiveValue; // average loan value of all active loans
+    private Money averageLoanValue; // average loan value of all loans
+    private Money averageOverdueValue; // average loan value of all overdue loans
+    private Money averageActiveValue; // average loan value of all active loans
 
     private Date earliestLoanDate; // earliest loan date of all loans
     private Date earliestReturnDate; // earliest return date of active loans (not overdue)
@@ -39,13 +40,13 @@ public class Analytics {
         this.propOverdueLoans = 0;
         this.propActiveLoans = 0;
 
-        this.totalValueLoaned = BigDecimal.ZERO;
-        this.totalValueOverdue = BigDecimal.ZERO;
-        this.totalValueActive = BigDecimal.ZERO;
+        this.totalValueLoaned = Money.ZERO;
+        this.totalValueOverdue = Money.ZERO;
+        this.totalValueActive = Money.ZERO;
 
-        this.averageLoanValue = BigDecimal.ZERO;
-        this.averageOverdueValue = BigDecimal.ZERO;
-        this.averageActiveValue = BigDecimal.ZERO;
+        this.averageLoanValue = Money.ZERO;
+        this.averageOverdueValue = Money.ZERO;
+        this.averageActiveValue = Money.ZERO;
 
         this.earliestLoanDate = null;
         this.earliestReturnDate = null;
@@ -56,16 +57,12 @@ public class Analytics {
     /**
      * Updates the fields that count the number of various loans.
      *
-     * @param loan The loan to update the fields with.
+     * @param aggregate The aggregate of the loans to update the fields with.
      */
-    private void updateNumFields(Loan loan) {
-        this.numLoans++;
-        if (loan.isOverdue()) {
-            this.numOverdueLoans++;
-        }
-        if (loan.isActive()) {
-            this.numActiveLoans++;
-        }
+    private void updateNumFields(LoanAggregate aggregate) {
+        this.numLoans = aggregate.getNumLoans();
+        this.numOverdueLoans = aggregate.getNumOverdueLoans();
+        this.numActiveLoans = aggregate.getNumActiveLoans();
     }
 
     /**
@@ -82,16 +79,12 @@ public class Analytics {
     /**
      * Updates the fields that calculate the total value of various loans.
      *
-     * @param loan The loan to update the fields with.
+     * @param aggregate The aggregate of the loans to update the fields with.
      */
-    private void updateValueFields(Loan loan) {
-        totalValueLoaned = totalValueLoaned.add(loan.getValue());
-        if (loan.isOverdue()) {
-            totalValueOverdue = totalValueOverdue.add(loan.getValue());
-        }
-        if (loan.isActive()) {
-            totalValueActive = totalValueActive.add(loan.getValue());
-        }
+    private void updateValueFields(LoanAggregate aggregate) {
+        totalValueLoaned = aggregate.getTotalValueLoaned();
+        totalValueOverdue = aggregate.getTotalValueOverdue();
+        totalValueActive = aggregate.getTotalValueActive();
     }
 
     /**
@@ -100,58 +93,58 @@ public class Analytics {
      */
     private void updateAverageFields() {
         if (numActiveLoans > 0) {
-            averageActiveValue = totalValueActive.divide(BigDecimal.valueOf(numActiveLoans),
-                    2, RoundingMode.HALF_UP);
+            averageActiveValue = totalValueActive.divide(numActiveLoans);
         }
         if (numOverdueLoans > 0) {
-            averageOverdueValue = totalValueOverdue.divide(BigDecimal.valueOf(numOverdueLoans),
-                    2, RoundingMode.HALF_UP);
+            averageOverdueValue = totalValueOverdue.divide(numOverdueLoans);
         }
         if (numLoans > 0) {
-            averageLoanValue = totalValueLoaned.divide(BigDecimal.valueOf(this.numLoans),
-                    2, RoundingMode.HALF_UP);
+            averageLoanValue = totalValueLoaned.divide(this.numLoans);
         }
     }
 
     /**
      * Updates the fields that calculate the earliest and latest dates of various loans.
      *
-     * @param loan The loan to update the fields with.
+     * @param aggregate The aggregate of the loans to update the fields with.
      */
-    private void updateDateFields(Loan loan) {
-        if (this.earliestLoanDate == null || loan.getStartDate().before(this.earliestLoanDate)) {
-            this.earliestLoanDate = loan.getStartDate();
-        }
-        if (this.latestLoanDate == null || loan.getStartDate().after(this.latestLoanDate)) {
-            this.latestLoanDate = loan.getStartDate();
-        }
-        if (!loan.isReturned() && !loan.isOverdue()) {
-            if (this.earliestReturnDate == null || loan.getReturnDate().before(this.earliestReturnDate)) {
-                this.earliestReturnDate = loan.getReturnDate();
-            }
-            if (this.latestReturnDate == null || loan.getReturnDate().after(this.latestReturnDate)) {
-                this.latestReturnDate = loan.getReturnDate();
-            }
-        }
-
+    private void updateDateFields(LoanAggregate aggregate) {
+        this.earliestLoanDate = aggregate.getEarliestLoanDate();
+        this.latestLoanDate = aggregate.getLatestLoanDate();
+        this.earliestReturnDate = aggregate.getEarliestReturnDate();
+        this.latestReturnDate = aggregate.getLatestReturnDate();
     }
 
     /**
-     * Returns an Analytics object that represents the analytics of a LoanRecords object.
+     * Returns an Analytics object that represents the analytics of a list of loans.
+     * The loans are aggregated from scratch, so this takes time linear in the size of the list.
      *
      * @param loanList The list of loans to calculate the analytics from.
-     * @return The Analytics object that represents the analytics of the LoanRecords object.
+     * @return The Analytics object that represents the analytics of the list of loans.
      */
-    public static Analytics getAnalytics(ObservableList<Loan> loanList) {
-        UniqueLoanList uniqueLoanList = new UniqueLoanList();
-        uniqueLoanList.setLoans(loanList);
-        Analytics analytics = new Analytics();
-        for (int i = 0; i < uniqueLoanList.size(); i++) {
-            Loan loan = uniqueLoanList.getLoan(i);
-            analytics.updateNumFields(loan);
-            analytics.updateValueFields(loan);
-            analytics.updateDateFields(loan);
+    public static Analytics getAnalytics(List<Loan> loanList) {
+        requireNonNull(loanList);
+        LoanAggregate aggregate = new LoanAggregate();
+        for (Loan loan : loanList) {
+            aggregate.add(loan);
         }
+        return fromAggregate(aggregate);
+    }
+
+    /**
+     * Returns an Analytics object that represents the analytics of the loans in a live aggregate.
+     * This reads the running totals of the aggregate instead of visiting every loan. Its overdue figures are read as
+     * of the day the aggregate was last rolled over to, which the model moves forward once a day.
+     *
+     * @param aggregate The aggregate of the loans to calculate the analytics from.
+     * @return The Analytics object that represents the analytics of the aggregated loans.
+     */
+    public static Analytics fromAggregate(LoanAggregate aggregate) {
+        requireNonNull(aggregate);
+        Analytics analytics = new Analytics();
+        analytics.updateNumFields(aggregate);
+        analytics.updateValueFields(aggregate);
+        analytics.updateDateFields(aggregate);
         analytics.updatePropFields();
         analytics.updateAverageFields();
         return analytics;
@@ -169,7 +162,7 @@ public class Analytics {
         return propActiveLoans;
     }
 
-    public BigDecimal getAverageLoanValue() {
+    public Money getAverageLoanValue() {
         return averageLoanValue;
     }
 
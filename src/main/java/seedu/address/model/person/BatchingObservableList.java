@@ -0,0 +1,104 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable array list whose notifications can be held back, so that a run of changes is published as one.
+ * The changes made between {@link #beginBatch()} and the matching {@link #endBatch()} are combined into a single
+ * change, which listeners receive when the outermost batch ends. Outside a batch, every change is published as it
+ * is made, as with {@code FXCollections#observableArrayList()}.
+ *
+ * @param <E> The type of the elements.
+ */
+class BatchingObservableList<E> extends ModifiableObservableListBase<E> implements RandomAccess {
+
+    private final List<E> elements = new ArrayList<>();
+
+    /**
+     * Starts holding back notifications. Batches nest, and each must be ended by a call to {@link #endBatch()}.
+     */
+    void beginBatch() {
+        beginChange();
+    }
+
+    /**
+     * Ends the latest batch, and publishes the changes made during it if it is the outermost one.
+     */
+    void endBatch() {
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    public void clear() {
+        if (elements.isEmpty()) {
+            return;
+        }
+        beginChange();
+        try {
+            nextRemove(0, new ArrayList<>(elements));
+            elements.clear();
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Removes the elements at {@code positions}, which must be distinct and in ascending order, as a single change.
+     * The elements after the first removed one are moved up in one pass, rather than once for every element removed.
+     */
+    void removeAt(List<Integer> positions) {
+        if (positions.isEmpty()) {
+            return;
+        }
+        beginChange();
+        try {
+            for (int i = positions.size() - 1; i >= 0; i--) {
+                int position = positions.get(i);
+                nextRemove(position, Collections.singletonList(elements.get(position)));
+            }
+            int kept = positions.get(0);
+            int nextRemoved = 0;
+            for (int i = kept; i < elements.size(); i++) {
+                if (nextRemoved < positions.size() && positions.get(nextRemoved) == i) {
+                    nextRemoved++;
+                } else {
+                    elements.set(kept++, elements.get(i));
+                }
+            }
+            elements.subList(kept, elements.size()).clear();
+            modCount++;
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        elements.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return elements.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return elements.remove(index);
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.math.BigDecimal;
@@ -19,11 +20,11 @@ public class Loan implements Comparable<Loan> {
     public static final String VALUE_CONSTRAINTS = "Loan values must be a positive number.";
 
     private final int id;
-    private final BigDecimal value;
-    private final Date startDate;
-    private final Date returnDate;
+    private final Money value;
+    private final int startDay; // days since 1970-01-01
+    private final int returnDay; // days since 1970-01-01
     private boolean isReturned;
-    private Person assignee;
+    private PersonRef assignee;
 
     /**
      * Constructs a {@code Loan} with a given id.
@@ -34,16 +35,16 @@ public class Loan implements Comparable<Loan> {
      * @param returnDate A valid return date.
      * @param assignee   A valid assignee.
      */
-    public Loan(int id, BigDecimal value, Date startDate, Date returnDate, Person assignee) {
+    public Loan(int id, Money value, Date startDate, Date returnDate, Person assignee) {
         requireAllNonNull(id, value, startDate, returnDate, assignee);
-        assert isValidValue(value);
+        assert value.signum() > 0;
         assert id >= 0;
         this.id = id;
         this.value = value;
-        this.startDate = startDate;
-        this.returnDate = returnDate;
+        this.startDay = DateUtil.toEpochDay(startDate);
+        this.returnDay = DateUtil.toEpochDay(returnDate);
         this.isReturned = false;
-        this.assignee = assignee;
+        this.assignee = PersonRef.unregistered(assignee);
     }
 
     /**
@@ -56,18 +57,42 @@ public class Loan implements Comparable<Loan> {
      * @param isReturned A valid return status.
      * @param assignee   A valid assignee.
      */
-    public Loan(int id, BigDecimal value, Date startDate, Date returnDate, boolean isReturned, Person assignee) {
+    public Loan(int id, Money value, Date startDate, Date returnDate, boolean isReturned, Person assignee) {
         requireAllNonNull(id, value, startDate, returnDate, isReturned, assignee);
-        assert isValidValue(value);
+        assert value.signum() > 0;
         assert id >= 0;
         this.id = id;
         this.value = value;
-        this.startDate = startDate;
-        this.returnDate = returnDate;
+        this.startDay = DateUtil.toEpochDay(startDate);
+        this.returnDay = DateUtil.toEpochDay(returnDate);
         this.isReturned = isReturned;
+        this.assignee = PersonRef.unregistered(assignee);
+    }
+
+    private Loan(Loan source, PersonRef assignee) {
+        this.id = source.id;
+        this.value = source.value;
+        this.startDay = source.startDay;
+        this.returnDay = source.returnDay;
+        this.isReturned = source.isReturned;
         this.assignee = assignee;
     }
 
+    /**
+     * Returns a copy of this loan whose return status can be changed without affecting this loan.
+     */
+    public Loan copy() {
+        return new Loan(this, PersonRef.unregistered(getAssignee()));
+    }
+
+    /**
+     * Returns a copy of this loan assigned to {@code assignee} under the same assignee id as this loan.
+     * The copy does not follow later edits of the assignee.
+     */
+    Loan copyWithAssignee(Person assignee) {
+        return new Loan(this, new PersonRef(getAssigneeId(), assignee));
+    }
+
     /**
      * Returns true if a given BigDecimal is a valid value.
      */
@@ -86,16 +111,24 @@ public class Loan implements Comparable<Loan> {
         return id;
     }
 
-    public BigDecimal getValue() {
+    public Money getValue() {
         return value;
     }
 
     public Date getStartDate() {
-        return startDate;
+        return DateUtil.toDate(startDay);
     }
 
     public Date getReturnDate() {
-        return returnDate;
+        return DateUtil.toDate(returnDay);
+    }
+
+    public int getStartDay() {
+        return startDay;
+    }
+
+    public int getReturnDay() {
+        return returnDay;
     }
 
     public boolean isReturned() {
@@ -107,24 +140,50 @@ public class Loan implements Comparable<Loan> {
     }
 
     public Person getAssignee() {
+        return assignee.get();
+    }
+
+    /**
+     * Returns the stable id of the assignee, or {@link PersonRef#UNREGISTERED_ID} if the loan has not been added
+     * to a loan list yet.
+     */
+    public int getAssigneeId() {
+        return assignee.getId();
+    }
+
+    PersonRef getAssigneeRef() {
         return assignee;
     }
 
+    /**
+     * Returns true if {@code other} has the same id, details and return status as this loan, and is assigned to the
+     * same assignee id. The assignee itself may be another version of the same person.
+     */
+    public boolean hasSameDetails(Loan other) {
+        return id == other.id
+                && value.equals(other.value)
+                && startDay == other.startDay
+                && returnDay == other.returnDay
+                && isReturned == other.isReturned
+                && getAssigneeId() == other.getAssigneeId();
+    }
+
     public boolean isAssignedTo(Person person) {
-        return assignee.equals(person);
+        return assignee.get().equals(person);
     }
 
     public int compareTo(Loan other) {
-        return this.returnDate.compareTo(other.returnDate);
+        return Integer.compare(this.returnDay, other.returnDay);
     }
 
     /**
-     * Returns true if the loan is overdue.
+     * Returns true if the loan is overdue on {@code today}, that is, if it has not been returned
+     * and {@code today} is after its return day.
+     *
+     * @param today The current day as an epoch day.
      */
-    public boolean isOverdue() {
-        // shift return date to the next day
-        Date returnDateNextDay = DateUtil.addDay(returnDate, 1);
-        return !isReturned && new Date().after(returnDateNextDay);
+    public boolean isOverdue(int today) {
+        return !isReturned && today > returnDay;
     }
 
     /**
@@ -144,11 +203,11 @@ public class Loan implements Comparable<Loan> {
     @Override
     public String toString() {
         if (isReturned) {
-            return String.format("$%.2f, %s, %s (Returned)", value, DateUtil.format(startDate),
-                    DateUtil.format(returnDate));
+            return String.format("$%.2f, %s, %s (Returned)", value.toBigDecimal(),
+                    DateUtil.formatEpochDay(startDay), DateUtil.formatEpochDay(returnDay));
         } else {
-            return String.format("$%.2f, %s, %s", value, DateUtil.format(startDate),
-                    DateUtil.format(returnDate));
+            return String.format("$%.2f, %s, %s", value.toBigDecimal(),
+                    DateUtil.formatEpochDay(startDay), DateUtil.formatEpochDay(returnDay));
         }
     }
 
@@ -172,7 +231,8 @@ public class Loan implements Comparable<Loan> {
         return id;
     }
 
-    public void setAssignee(Person editedPerson) {
-        assignee = editedPerson;
+    void setAssigneeRef(PersonRef assignee) {
+        requireNonNull(assignee);
+        this.assignee = assignee;
     }
 }
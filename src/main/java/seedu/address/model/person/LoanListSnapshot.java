@@ -0,0 +1,53 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.util.PersistentIntMap;
+
+/**
+ * An immutable view of a {@code UniqueLoanList} at one point in time.
+ * Loans are kept as frozen copies, each assigned to the version of its assignee at the time of the snapshot, so the
+ * snapshot shares its structure with the list it was taken from and can be read from any thread. The frozen loans
+ * are handed out as they are, and must not be changed.
+ */
+public final class LoanListSnapshot {
+
+    private final PersistentIntMap<Loan> frozenLoansById;
+    private final PersistentIntMap<Person> assigneesById;
+
+    /**
+     * Constructs a {@code LoanListSnapshot} of frozen loans whose assignees are registered in {@code assigneesById}.
+     */
+    public LoanListSnapshot(PersistentIntMap<Loan> frozenLoansById, PersistentIntMap<Person> assigneesById) {
+        requireAllNonNull(frozenLoansById, assigneesById);
+        this.frozenLoansById = frozenLoansById;
+        this.assigneesById = assigneesById;
+    }
+
+    public int size() {
+        return frozenLoansById.size();
+    }
+
+    /**
+     * Returns the frozen loans of this snapshot in order of id.
+     */
+    public List<Loan> getLoans() {
+        return frozenLoansById.values();
+    }
+
+    /**
+     * Returns the frozen loans of this snapshot by id.
+     */
+    public PersistentIntMap<Loan> getFrozenLoans() {
+        return frozenLoansById;
+    }
+
+    /**
+     * Returns the assignees of the loans in this snapshot by their stable id.
+     */
+    public PersistentIntMap<Person> getAssignees() {
+        return assigneesById;
+    }
+}
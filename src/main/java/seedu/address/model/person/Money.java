@@ -0,0 +1,183 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+/**
+ * Represents an amount of money.
+ * Guarantees: immutable; equal amounts are equal regardless of how many trailing zeros they were written with.
+ * Amounts with at most two decimal places whose number of cents fits in a {@code long} are held as that number of
+ * cents, so adding and comparing them is plain integer arithmetic. Any other amount, including a result that would
+ * overflow, is held as a {@code BigDecimal} instead. An amount keeps the number of decimal places it was given with,
+ * so that it is shown and saved as it was entered.
+ */
+public final class Money implements Comparable<Money> {
+
+    public static final Money ZERO = new Money(0, 2);
+
+    private static final int SCALE = 2;
+    private static final long MAX_CENTS_BEFORE_SCALING = Long.MAX_VALUE / 100;
+
+    private final long cents;
+    private final int scale; // decimal places the amount was given with, if it is held in cents
+    private final BigDecimal exact; // null if the amount is held in cents
+
+    private Money(long cents, int scale) {
+        this.cents = cents;
+        this.scale = scale;
+        this.exact = null;
+    }
+
+    private Money(BigDecimal exact) {
+        this.cents = 0;
+        this.scale = exact.scale();
+        this.exact = exact;
+    }
+
+    /**
+     * Returns a {@code Money} of the given amount.
+     *
+     * @param amount A valid amount.
+     */
+    public static Money of(BigDecimal amount) {
+        requireNonNull(amount);
+        if (amount.stripTrailingZeros().scale() <= SCALE) {
+            BigInteger unscaled = amount.setScale(SCALE).unscaledValue();
+            if (unscaled.bitLength() < Long.SIZE) {
+                return new Money(unscaled.longValue(), amount.scale());
+            }
+        }
+        return new Money(amount);
+    }
+
+    /**
+     * Returns a {@code Money} of the given number of cents.
+     */
+    public static Money ofCents(long cents) {
+        return cents == 0 ? ZERO : new Money(cents, SCALE);
+    }
+
+    /**
+     * Returns the sum of this amount and {@code other}.
+     */
+    public Money add(Money other) {
+        if (exact == null && other.exact == null) {
+            long sum = cents + other.cents;
+            // overflow iff both operands have the same sign and the sum has the opposite sign
+            if (((cents ^ sum) & (other.cents ^ sum)) >= 0) {
+                return ofCents(sum);
+            }
+        }
+        return of(toBigDecimal().add(other.toBigDecimal()));
+    }
+
+    /**
+     * Returns the difference of this amount and {@code other}.
+     */
+    public Money subtract(Money other) {
+        if (exact == null && other.exact == null) {
+            long difference = cents - other.cents;
+            // overflow iff the operands have different signs and the difference takes the sign of the subtrahend
+            if (((cents ^ other.cents) & (cents ^ difference)) >= 0) {
+                return ofCents(difference);
+            }
+        }
+        return of(toBigDecimal().subtract(other.toBigDecimal()));
+    }
+
+    /**
+     * Returns this amount divided by {@code divisor}, rounded half up to the nearest cent.
+     *
+     * @param divisor A non-zero number.
+     */
+    public Money divide(long divisor) {
+        if (exact == null) {
+            return ofCents(divideRoundingHalfUp(cents, divisor));
+        }
+        return of(exact.divide(BigDecimal.valueOf(divisor), SCALE, RoundingMode.HALF_UP));
+    }
+
+    /**
+     * Returns the ratio of this amount to {@code other}, rounded half up to two decimal places.
+     *
+     * @param other A non-zero amount.
+     */
+    public BigDecimal ratioTo(Money other) {
+        if (exact == null && other.exact == null && Math.abs(cents) <= MAX_CENTS_BEFORE_SCALING) {
+            return BigDecimal.valueOf(divideRoundingHalfUp(cents * 100, other.cents), SCALE);
+        }
+        return toBigDecimal().divide(other.toBigDecimal(), SCALE, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Returns -1, 0 or 1 as this amount is negative, zero or positive.
+     */
+    public int signum() {
+        return exact == null ? Long.signum(cents) : exact.signum();
+    }
+
+    /**
+     * Returns this amount as a {@code BigDecimal} with the number of decimal places it was given with, or with two
+     * if it is the result of arithmetic.
+     */
+    public BigDecimal toBigDecimal() {
+        if (exact != null) {
+            return exact;
+        }
+        BigDecimal amount = BigDecimal.valueOf(cents, SCALE);
+        // only trailing zeros are dropped, as the amount was given with this scale
+        return scale == SCALE ? amount : amount.setScale(scale);
+    }
+
+    private static long divideRoundingHalfUp(long dividend, long divisor) {
+        if (divisor == 0) {
+            throw new ArithmeticException("Division by zero");
+        }
+        long quotient = dividend / divisor;
+        long remainder = Math.abs(dividend % divisor);
+        if (remainder >= Math.abs(divisor) - remainder) {
+            quotient += (dividend < 0) == (divisor < 0) ? 1 : -1;
+        }
+        return quotient;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        if (exact == null && other.exact == null) {
+            return Long.compare(cents, other.cents);
+        }
+        return toBigDecimal().compareTo(other.toBigDecimal());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Money)) {
+            return false;
+        }
+
+        // an amount is held in cents whenever it can be, so amounts held differently are never equal
+        Money otherMoney = (Money) other;
+        if (exact == null || otherMoney.exact == null) {
+            return exact == otherMoney.exact && cents == otherMoney.cents;
+        }
+        return exact.compareTo(otherMoney.exact) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return exact == null ? Long.hashCode(cents) : exact.stripTrailingZeros().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A reference to a person by a stable surrogate id.
+ * The id stays the same when the person is edited; only the person it resolves to changes. Every loan of a person
+ * shares the same reference, so editing the person updates all of its loans at once.
+ * References handed out by a {@link PersonRegistry} have non-negative ids and remember the registry they belong to.
+ * A reference that is not yet registered has the id {@link #UNREGISTERED_ID}.
+ */
+public class PersonRef {
+
+    public static final int UNREGISTERED_ID = -1;
+
+    private final PersonRegistry registry; // null if the reference was not handed out by a registry
+    private final int id;
+    private Person person;
+
+    PersonRef(int id, Person person) {
+        this(null, id, person);
+    }
+
+    PersonRef(PersonRegistry registry, int id, Person person) {
+        requireNonNull(person);
+        this.registry = registry;
+        this.id = id;
+        this.person = person;
+    }
+
+    /**
+     * Returns a reference to {@code person} that does not belong to any registry.
+     */
+    public static PersonRef unregistered(Person person) {
+        return new PersonRef(UNREGISTERED_ID, person);
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public Person get() {
+        return person;
+    }
+
+    public boolean isRegistered() {
+        return id != UNREGISTERED_ID;
+    }
+
+    /**
+     * Returns true if this reference was handed out by {@code registry}.
+     */
+    boolean isHandedOutBy(PersonRegistry registry) {
+        return this.registry == registry;
+    }
+
+    void set(Person person) {
+        requireNonNull(person);
+        this.person = person;
+    }
+
+    @Override
+    public String toString() {
+        return "#" + id + " " + person.getName();
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import seedu.address.commons.util.PersistentIntMap;
+
+/**
+ * Assigns stable ids to persons and resolves each id to the current version of its person.
+ * Persons are looked up by {@code Person#equals(Object)}, so a person must be replaced here whenever it is edited.
+ */
+public class PersonRegistry {
+
+    private final Map<Integer, PersonRef> refsById = new HashMap<>();
+    private final Map<Person, PersonRef> refsByPerson = new HashMap<>();
+    private PersistentIntMap<Person> personsById = PersistentIntMap.empty();
+    private int nextId = 0;
+
+    /**
+     * Returns the reference to {@code person}, registering the person under a new id if needed.
+     */
+    public PersonRef register(Person person) {
+        requireNonNull(person);
+        PersonRef ref = refsByPerson.get(person);
+        if (ref == null) {
+            ref = new PersonRef(this, nextId++, person);
+            refsById.put(ref.getId(), ref);
+            refsByPerson.put(person, ref);
+            personsById = personsById.put(ref.getId(), person);
+        }
+        return ref;
+    }
+
+    /**
+     * Returns the reference to {@code person}, or null if the person is not registered.
+     */
+    public PersonRef lookup(Person person) {
+        requireNonNull(person);
+        return refsByPerson.get(person);
+    }
+
+    /**
+     * Returns the reference with the given id, or null if there is none.
+     */
+    public PersonRef lookup(int id) {
+        return refsById.get(id);
+    }
+
+    /**
+     * Points the reference to {@code target} at {@code editedPerson}, keeping its id.
+     * {@code target} must be registered and {@code editedPerson} must not be registered under another id.
+     *
+     * @return The updated reference.
+     */
+    public PersonRef replace(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        PersonRef ref = refsByPerson.remove(target);
+        assert ref != null;
+        assert !refsByPerson.containsKey(editedPerson);
+        ref.set(editedPerson);
+        refsByPerson.put(editedPerson, ref);
+        personsById = personsById.put(ref.getId(), editedPerson);
+        return ref;
+    }
+
+    /**
+     * Removes the reference with the given id. Its id is never handed out again.
+     */
+    public void unregister(int id) {
+        PersonRef ref = refsById.remove(id);
+        if (ref != null) {
+            refsByPerson.remove(ref.get());
+            personsById = personsById.remove(id);
+        }
+    }
+
+    /**
+     * Removes all references.
+     */
+    public void clear() {
+        refsById.clear();
+        refsByPerson.clear();
+        personsById = PersistentIntMap.empty();
+    }
+
+    /**
+     * Returns the registered persons by id as they are now. Later changes to this registry do not affect it.
+     */
+    public PersistentIntMap<Person> snapshot() {
+        return personsById;
+    }
+
+    public int size() {
+        return refsById.size();
+    }
+}
@@ -1,53 +1,139 @@
 package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.TreeMap;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableSet;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.DateUtil;
+import seedu.address.commons.util.PersistentIntMap;
 import seedu.address.logic.commands.LinkLoanCommand.LinkLoanDescriptor;
+import seedu.address.model.analytics.LoanAggregate;
+import seedu.address.model.history.EditLog;
 import seedu.address.model.person.exceptions.DuplicateLoanException;
 import seedu.address.model.person.exceptions.LoanNotFoundException;
 
 /**
  * Represents a list of loans in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * Loans are additionally indexed by id and by assignee so that lookups, uniqueness checks and per-person
+ * operations do not scan the list; every mutation of {@code internalList} must keep both indexes in sync.
+ * Assignees are registered under stable ids when their first loan is added, and all loans of an assignee share
+ * one {@link PersonRef}, so editing a person does not touch its loans.
+ * Since the list changes the status and the assignee of its loans in place, a loan is held by at most one list: a loan
+ * that already belongs to another list is copied as it is added, and loans passed in to be changed are resolved to
+ * the list's own instances by id. The position of every loan is kept by id as well, so no change scans the list.
+ * Running analytics totals are kept for the whole list and for each assignee, and active loans are ordered by
+ * return day, so a loan's status must only be changed through this list. The ids of the loans that are overdue as of
+ * the day of the totals are kept in an observable set, so that observers learn which loans changed when a day passes
+ * without the list itself publishing a change. Every overdue figure and return date query is answered as of that day
+ * rather than the clock, so they only move on when the model rolls the list over to a new day.
+ * A frozen copy of every loan, assigned to the current version of its assignee, is also kept in a persistent map, so
+ * that {@link #snapshot()} takes constant time. A loan is frozen again whenever its status or its assignee changes.
  */
 public class UniqueLoanList implements Iterable<Loan> {
 
     private static final String DATE_MESSAGE_CONSTRAINTS = "Dates must be in the format dd-MM-yyyy.";
     private static int nextLoanId = 1;
 
-    private final ObservableList<Loan> internalList = FXCollections.observableArrayList();
+    private final BatchingObservableList<Loan> internalList = new BatchingObservableList<>();
     private final ObservableList<Loan> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Integer, Loan> loansById = new HashMap<>();
+    private final Map<Integer, Integer> positionsById = new HashMap<>();
+    private final PersonRegistry assignees = new PersonRegistry();
+    private final Map<Integer, Map<Integer, Loan>> loansByAssignee = new HashMap<>();
+    private final LoanAggregate aggregate = new LoanAggregate();
+    private final Map<Integer, LoanAggregate> aggregatesByAssignee = new HashMap<>();
+    private final TreeMap<Integer, Map<Integer, Loan>> activeLoansByReturnDay = new TreeMap<>();
+    private final ObservableSet<Integer> overdueLoanIds = FXCollections.observableSet(new HashSet<>());
+    private final ObservableSet<Integer> unmodifiableOverdueLoanIds =
+            FXCollections.unmodifiableObservableSet(overdueLoanIds);
+    private PersistentIntMap<Loan> frozenLoansById = PersistentIntMap.empty();
+    private final EditLog editLog;
+
+    /**
+     * Constructs an empty {@code UniqueLoanList} whose edits are not recorded.
+     */
+    public UniqueLoanList() {
+        this(new EditLog());
+    }
+
+    /**
+     * Constructs an empty {@code UniqueLoanList} that records its edits in {@code editLog}.
+     */
+    public UniqueLoanList(EditLog editLog) {
+        requireNonNull(editLog);
+        this.editLog = editLog;
+    }
 
     /**
      * Returns true if the list contains an equivalent loan as the given argument.
      */
     public boolean contains(Loan toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return loansById.containsKey(toCheck.getId());
     }
 
     /**
      * Adds a loan to the list of loans.
+     * The loan must not already exist in the list.
      *
      * @param loan A valid loan.
      */
     public void addLoan(Loan loan) {
         requireNonNull(loan);
-        internalList.add(loan);
+        if (contains(loan)) {
+            throw new DuplicateLoanException();
+        }
+        Loan added = adopt(loan);
+        loansById.put(added.getId(), added);
+        addToIndexes(added);
+        internalList.add(added);
+        positionsById.put(added.getId(), internalList.size() - 1);
         updateNextLoanId();
+        editLog.record(() -> removeLoan(added), () -> addLoan(added));
+    }
+
+    /**
+     * Adds {@code toAdd} to the end of the list of loans as a single change.
+     * None of the loans may already exist in the list, and none may occur twice in {@code toAdd}.
+     */
+    public void addLoans(List<Loan> toAdd) {
+        requireAllNonNull(toAdd);
+        List<Loan> added = adoptAll(toAdd);
+        Map<Integer, Loan> additionsById = indexById(added);
+        if (additionsById == null || additionsById.keySet().stream().anyMatch(loansById::containsKey)) {
+            throw new DuplicateLoanException();
+        }
+        loansById.putAll(additionsById);
+        for (Loan loan : added) {
+            addToIndexes(loan);
+            nextLoanId = Math.max(nextLoanId, loan.getId() + 1);
+        }
+        int firstAdded = internalList.size();
+        internalList.addAll(added);
+        updatePositionsFrom(firstAdded);
+        editLog.record(() -> {
+            for (int i = added.size() - 1; i >= 0; i--) {
+                removeLoan(added.get(i));
+            }
+        }, () -> addLoans(added));
     }
 
     /**
@@ -57,7 +143,7 @@ public class UniqueLoanList implements Iterable<Loan> {
      * @param startDate A valid start date.
      * @param returnDate A valid return date.
      */
-    public Loan addLoan(BigDecimal value, Date startDate, Date returnDate, Person assignee) {
+    public Loan addLoan(Money value, Date startDate, Date returnDate, Person assignee) {
         Loan loan = new Loan(nextLoanId, value, startDate, returnDate, assignee);
         addLoan(loan);
         return loan;
@@ -69,7 +155,7 @@ public class UniqueLoanList implements Iterable<Loan> {
      * @param loanDescription A valid LinkLoanDescriptor, which contains details about the loan to be added.
      */
     public Loan addLoan(LinkLoanDescriptor loanDescription, Person assignee) {
-        BigDecimal value = loanDescription.getValue();
+        Money value = loanDescription.getValue();
         Date startDate = loanDescription.getStartDate();
         Date returnDate = loanDescription.getReturnDate();
         return addLoan(value, startDate, returnDate, assignee);
@@ -83,7 +169,7 @@ public class UniqueLoanList implements Iterable<Loan> {
      * @param returnDate A valid return date.
      * @throws IllegalValueException If the date string is not in the correct format.
      */
-    public void addLoan(BigDecimal value, String startDate, String returnDate, Person assignee)
+    public void addLoan(Money value, String startDate, String returnDate, Person assignee)
             throws IllegalValueException {
         try {
             Date start = DateUtil.parse(startDate);
@@ -94,6 +180,38 @@ public class UniqueLoanList implements Iterable<Loan> {
         }
     }
 
+    /**
+     * Replaces the loan {@code target} in the list with {@code editedLoan}, at the same position.
+     * {@code target} must exist in the list. {@code editedLoan} must have the same id as {@code target} or an id
+     * that is not in the list.
+     * The list publishes a single replace change, so sorted and filtered views only reprocess that one loan.
+     *
+     * @param target A valid loan.
+     * @param editedLoan A valid loan.
+     */
+    public void setLoan(Loan target, Loan editedLoan) {
+        requireAllNonNull(target, editedLoan);
+        int index = positionOf(target);
+        if (target.getId() != editedLoan.getId() && contains(editedLoan)) {
+            throw new DuplicateLoanException();
+        }
+
+        Loan existing = internalList.get(index);
+        Loan edited = adopt(editedLoan);
+        removeFromStatusIndexes(existing);
+        loansByAssignee.get(existing.getAssigneeId()).remove(existing.getId());
+        loansById.remove(existing.getId());
+        positionsById.remove(existing.getId());
+        frozenLoansById = frozenLoansById.remove(existing.getId());
+        // the assignee is released only after the edited loan is added, so that it keeps its id
+        loansById.put(edited.getId(), edited);
+        addToIndexes(edited);
+        releaseAssigneeIfUnused(existing.getAssigneeId());
+        internalList.set(index, edited);
+        positionsById.put(edited.getId(), index);
+        editLog.record(() -> setLoan(edited, existing), () -> setLoan(existing, edited));
+    }
+
     /**
      * Removes a loan from the list of loans.
      *
@@ -101,25 +219,105 @@ public class UniqueLoanList implements Iterable<Loan> {
      */
     public void removeLoan(Loan toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Loan removed = loansById.remove(toRemove.getId());
+        if (removed == null) {
             throw new LoanNotFoundException();
         }
+        int index = positionsById.remove(removed.getId());
+        removeFromIndexes(removed);
+        frozenLoansById = frozenLoansById.remove(removed.getId());
+        internalList.remove(index);
+        updatePositionsFrom(index);
+        editLog.record(() -> insertLoan(index, removed), () -> removeLoan(removed));
+    }
+
+    /**
+     * Puts {@code loan} back at {@code index}.
+     */
+    private void insertLoan(int index, Loan loan) {
+        loansById.put(loan.getId(), loan);
+        addToIndexes(loan);
+        internalList.add(index, loan);
+        updatePositionsFrom(index);
+    }
+
+    /**
+     * Returns the position in the list of the loan with the same id as {@code loan}.
+     *
+     * @throws LoanNotFoundException if the list holds no loan with that id.
+     */
+    private int positionOf(Loan loan) {
+        Integer position = positionsById.get(loan.getId());
+        if (position == null) {
+            throw new LoanNotFoundException();
+        }
+        return position;
+    }
+
+    /**
+     * Records the positions of the loans from {@code from} to the end of the list, which moved as loans were added or
+     * removed at {@code from}.
+     */
+    private void updatePositionsFrom(int from) {
+        for (int i = from; i < internalList.size(); i++) {
+            positionsById.put(internalList.get(i).getId(), i);
+        }
     }
 
     public void setPersons(UniqueLoanList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        setLoans(replacement.internalList);
     }
 
+    /**
+     * Replaces the contents of this list with {@code replacement}.
+     * {@code replacement} must not contain duplicate loans.
+     */
     public void setLoans(List<Loan> replacement) {
         requireNonNull(replacement);
-        if (!loansAreUnique(replacement)) {
+        List<Loan> adopted = adoptAll(replacement);
+        Map<Integer, Loan> replacementById = indexById(adopted);
+        if (replacementById == null) {
             throw new DuplicateLoanException();
         }
-        internalList.setAll(replacement);
-        for (Loan loan : replacement) {
+        List<Loan> previousLoans = editLog.isRecording() ? getLoanList() : null;
+        loansById.clear();
+        loansById.putAll(replacementById);
+        rebuildIndexes(adopted);
+        internalList.setAll(adopted);
+        positionsById.clear();
+        updatePositionsFrom(0);
+        for (Loan loan : adopted) {
             nextLoanId = Math.max(nextLoanId, loan.getId() + 1);
         }
+        recordReplacement(previousLoans);
+    }
+
+    /**
+     * Records the replacement of {@code previousLoans} by the current contents of this list.
+     * The loans themselves are kept rather than copied, as later steps refer to them.
+     */
+    private void recordReplacement(List<Loan> previousLoans) {
+        if (previousLoans == null) {
+            return;
+        }
+        List<Loan> currentLoans = getLoanList();
+        editLog.record(() -> setLoans(previousLoans), () -> setLoans(currentLoans));
+    }
+
+    /**
+     * Holds back the notifications of the backing list until the matching {@link #endBatch()}, so that the changes
+     * made in between are published as one change.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Ends the latest batch, and publishes the changes made during it if it is the outermost one.
+     */
+    public void endBatch() {
+        internalList.endBatch();
     }
 
     /**
@@ -142,13 +340,12 @@ public class UniqueLoanList implements Iterable<Loan> {
         return internalList.get(idx);
     }
 
+    /**
+     * @param id The id of the loan.
+     * @return The loan with the specified id, or null if there is no such loan.
+     */
     public Loan getLoanById(int id) {
-        for (Loan loan : internalList) {
-            if (loan.getId() == id) {
-                return loan;
-            }
-        }
-        return null;
+        return loansById.get(id);
     }
 
     /**
@@ -157,7 +354,7 @@ public class UniqueLoanList implements Iterable<Loan> {
      * @param idx A valid index.
      */
     public void markLoanAsReturned(int idx) {
-        internalList.get(idx).markAsReturned();
+        markLoanAsReturned(internalList.get(idx));
     }
 
     /**
@@ -168,7 +365,7 @@ public class UniqueLoanList implements Iterable<Loan> {
     public void markLoanAsReturnedById(int id) {
         Loan loan = getLoanById(id);
         if (loan != null) {
-            loan.markAsReturned();
+            markLoanAsReturned(loan);
         }
     }
 
@@ -178,21 +375,17 @@ public class UniqueLoanList implements Iterable<Loan> {
      * @param loanToMark A valid loan.
      */
     public void markLoan(Loan loanToMark) {
-        int index = internalList.indexOf(loanToMark);
-
-        if (index == -1) {
-            throw new LoanNotFoundException();
-        }
-
-        loanToMark.markAsReturned();
-        internalList.set(index, loanToMark);
+        int index = positionOf(loanToMark);
+        Loan loan = internalList.get(index);
+        markLoanAsReturned(loan);
+        internalList.set(index, loan);
     }
 
     /**
      * Marks a loan of the specified index as returned.
      */
     public void markLoan(int idx) {
-        internalList.get(idx).markAsReturned();
+        markLoanAsReturned(internalList.get(idx));
     }
 
     /**
@@ -222,21 +415,17 @@ public class UniqueLoanList implements Iterable<Loan> {
      * @param loanToUnmark A valid loan.
      */
     public void unmarkLoan(Loan loanToUnmark) {
-        int index = internalList.indexOf(loanToUnmark);
-
-        if (index == -1) {
-            throw new LoanNotFoundException();
-        }
-
-        loanToUnmark.unmarkAsReturned();
-        internalList.set(index, loanToUnmark);
+        int index = positionOf(loanToUnmark);
+        Loan loan = internalList.get(index);
+        unmarkLoanAsReturned(loan);
+        internalList.set(index, loan);
     }
 
     /**
      * Marks a loan of the specified index as not returned.
      */
     public void unmarkLoan(int idx) {
-        internalList.get(idx).unmarkAsReturned();
+        unmarkLoanAsReturned(internalList.get(idx));
     }
 
     /**
@@ -269,16 +458,7 @@ public class UniqueLoanList implements Iterable<Loan> {
         }
 
         UniqueLoanList otherUniqueLoanList = (UniqueLoanList) other;
-        // create hashset of ids of loans in this and other
-        HashSet<Integer> thisLoanIds = new HashSet<>();
-        HashSet<Integer> otherLoanIds = new HashSet<>();
-        for (Loan loan : internalList) {
-            thisLoanIds.add(loan.getId());
-        }
-        for (Loan loan : otherUniqueLoanList.internalList) {
-            otherLoanIds.add(loan.getId());
-        }
-        return thisLoanIds.equals(otherLoanIds);
+        return loansById.keySet().equals(otherUniqueLoanList.loansById.keySet());
     }
 
     @Override
@@ -286,62 +466,367 @@ public class UniqueLoanList implements Iterable<Loan> {
         return Objects.hash(internalList, nextLoanId);
     }
 
+    private void markLoanAsReturned(Loan loan) {
+        boolean wasReturned = loan.isReturned();
+        removeFromStatusIndexes(loan);
+        loan.markAsReturned();
+        addToStatusIndexes(loan);
+        freeze(loan);
+        if (!wasReturned) {
+            editLog.record(() -> unmarkLoan(loan), () -> markLoan(loan));
+        }
+    }
+
+    private void unmarkLoanAsReturned(Loan loan) {
+        boolean wasReturned = loan.isReturned();
+        removeFromStatusIndexes(loan);
+        loan.unmarkAsReturned();
+        addToStatusIndexes(loan);
+        addToOverdueLoansIfDue(loan);
+        freeze(loan);
+        if (wasReturned) {
+            editLog.record(() -> markLoan(loan), () -> unmarkLoan(loan));
+        }
+    }
+
+    /**
+     * Returns {@code loan} if this list may hold it, or a copy of it if it belongs to another list.
+     */
+    private Loan adopt(Loan loan) {
+        PersonRef ref = loan.getAssigneeRef();
+        return !ref.isRegistered() || ref.isHandedOutBy(assignees) ? loan : loan.copy();
+    }
+
+    private List<Loan> adoptAll(List<Loan> loans) {
+        List<Loan> adopted = new ArrayList<>(loans.size());
+        for (Loan loan : loans) {
+            adopted.add(adopt(loan));
+        }
+        return adopted;
+    }
+
+    private void addToIndexes(Loan loan) {
+        indexLoan(loan);
+        addToOverdueLoansIfDue(loan);
+        freeze(loan);
+    }
+
+    /**
+     * Adds the id of {@code loan} to the overdue loan ids if it is overdue as of the day the list was rolled over to.
+     */
+    private void addToOverdueLoansIfDue(Loan loan) {
+        if (loan.isOverdue(aggregate.getAsOfDay())) {
+            overdueLoanIds.add(loan.getId());
+        }
+    }
+
+    /**
+     * Adds {@code loan} to every index but the frozen loans.
+     */
+    private void indexLoan(Loan loan) {
+        loan.setAssigneeRef(assignees.register(loan.getAssignee()));
+        loansByAssignee.computeIfAbsent(loan.getAssigneeId(), unused -> new LinkedHashMap<>())
+                .put(loan.getId(), loan);
+        addToStatusIndexes(loan);
+    }
+
+    /**
+     * Puts a frozen copy of {@code loan} as it is now in the frozen loans.
+     */
+    private void freeze(Loan loan) {
+        frozenLoansById = frozenLoansById.put(loan.getId(), loan.copyWithAssignee(loan.getAssignee()));
+    }
+
+    private void removeFromIndexes(Loan loan) {
+        removeFromStatusIndexes(loan);
+        Map<Integer, Loan> assigneeLoans = loansByAssignee.get(loan.getAssigneeId());
+        if (assigneeLoans == null) {
+            return;
+        }
+        assigneeLoans.remove(loan.getId());
+        releaseAssigneeIfUnused(loan.getAssigneeId());
+    }
+
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Unregisters the assignee with the given id if it has no loans left.
      */
-    private boolean loansAreUnique(List<Loan> loans) {
-        for (int i = 0; i < loans.size() - 1; i++) {
-            for (int j = i + 1; j < loans.size(); j++) {
-                if (loans.get(i).equals(loans.get(j))) {
-                    return false;
-                }
+    private void releaseAssigneeIfUnused(int assigneeId) {
+        Map<Integer, Loan> assigneeLoans = loansByAssignee.get(assigneeId);
+        if (assigneeLoans != null && assigneeLoans.isEmpty()) {
+            loansByAssignee.remove(assigneeId);
+            assignees.unregister(assigneeId);
+        }
+    }
+
+    private void rebuildIndexes(List<Loan> loans) {
+        assignees.clear();
+        loansByAssignee.clear();
+        aggregate.clear();
+        aggregatesByAssignee.clear();
+        activeLoansByReturnDay.clear();
+        overdueLoanIds.clear();
+        List<Loan> loansById = new ArrayList<>(loans);
+        loansById.sort(Comparator.comparingInt(Loan::getId));
+        PersistentIntMap.Builder<Loan> frozenLoans = PersistentIntMap.builder();
+        for (Loan loan : loansById) {
+            indexLoan(loan);
+            frozenLoans.put(loan.getId(), loan.copyWithAssignee(loan.getAssignee()));
+        }
+        frozenLoansById = frozenLoans.build();
+        overdueLoanIds.addAll(idsOf(activeLoansByReturnDay.headMap(aggregate.getAsOfDay(), false)));
+    }
+
+    /**
+     * Adds {@code loan} to the indexes that depend on whether it has been returned.
+     */
+    private void addToStatusIndexes(Loan loan) {
+        aggregate.add(loan);
+        aggregatesByAssignee.computeIfAbsent(loan.getAssigneeId(), unused -> new LoanAggregate(aggregate.getAsOfDay()))
+                .add(loan);
+        if (loan.isActive()) {
+            activeLoansByReturnDay.computeIfAbsent(loan.getReturnDay(), unused -> new LinkedHashMap<>())
+                    .put(loan.getId(), loan);
+        }
+    }
+
+    /**
+     * Removes {@code loan} from the indexes that depend on whether it has been returned.
+     */
+    private void removeFromStatusIndexes(Loan loan) {
+        aggregate.remove(loan);
+        overdueLoanIds.remove(loan.getId());
+        Map<Integer, Loan> loansDue = activeLoansByReturnDay.get(loan.getReturnDay());
+        if (loansDue != null) {
+            loansDue.remove(loan.getId());
+            if (loansDue.isEmpty()) {
+                activeLoansByReturnDay.remove(loan.getReturnDay());
             }
         }
-        return true;
+        LoanAggregate assigneeAggregate = aggregatesByAssignee.get(loan.getAssigneeId());
+        if (assigneeAggregate == null) {
+            return;
+        }
+        assigneeAggregate.remove(loan);
+        if (assigneeAggregate.getNumLoans() == 0) {
+            aggregatesByAssignee.remove(loan.getAssigneeId());
+        }
+    }
+
+    /**
+     * Returns {@code loans} indexed by id, or null if {@code loans} contains duplicate loans.
+     */
+    private static Map<Integer, Loan> indexById(List<Loan> loans) {
+        Map<Integer, Loan> index = new HashMap<>(loans.size() * 2);
+        for (Loan loan : loans) {
+            if (index.put(loan.getId(), loan) != null) {
+                return null;
+            }
+        }
+        return index;
     }
 
     /**
      * Removes all loans attached to a person.
+     * The loans are found by the assignee and position indexes and removed from the list as a single change.
      *
      * @param key A valid person.
      */
     public void removeLoansAttachedTo(Person key) {
-        internalList.removeIf(loan -> loan.getAssignee().equals(key));
+        PersonRef ref = assignees.lookup(key);
+        if (ref == null) {
+            return;
+        }
+        Map<Integer, Loan> assigneeLoans = loansByAssignee.remove(ref.getId());
+        List<Integer> positions = new ArrayList<>(assigneeLoans.size());
+        for (Integer id : assigneeLoans.keySet()) {
+            positions.add(positionsById.remove(id));
+        }
+        Collections.sort(positions);
+        if (editLog.isRecording()) {
+            recordRemovalAt(positions, key);
+        }
+        assignees.unregister(ref.getId());
+        loansById.keySet().removeAll(assigneeLoans.keySet());
+        for (Loan loan : assigneeLoans.values()) {
+            removeFromStatusIndexes(loan);
+            frozenLoansById = frozenLoansById.remove(loan.getId());
+        }
+        if (!positions.isEmpty()) {
+            internalList.removeAt(positions);
+            updatePositionsFrom(positions.get(0));
+        }
     }
 
+    /**
+     * Records the removal of the loans at {@code indexes}, which are in ascending order.
+     * Undoing it puts them back in ascending order of position, so each lands where it was.
+     */
+    private void recordRemovalAt(List<Integer> indexes, Person assignee) {
+        List<Loan> loans = new ArrayList<>(indexes.size());
+        for (int index : indexes) {
+            loans.add(internalList.get(index));
+        }
+        editLog.record(() -> {
+            for (int i = 0; i < loans.size(); i++) {
+                insertLoan(indexes.get(i), loans.get(i));
+            }
+        }, () -> removeLoansAttachedTo(assignee));
+    }
+
+    /**
+     * Returns the loans assigned to a person, in the order they were added.
+     *
+     * @param assignee A valid person.
+     * @return A list of the loans assigned to {@code assignee}.
+     */
+    public List<Loan> getLoansAssignedTo(Person assignee) {
+        requireNonNull(assignee);
+        PersonRef ref = assignees.lookup(assignee);
+        if (ref == null) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(loansByAssignee.get(ref.getId()).values());
+    }
+
+    /**
+     * Returns the loans in this list as they are now, in constant time.
+     * Later changes to this list, its loans or their assignees do not affect the snapshot.
+     */
+    public LoanListSnapshot snapshot() {
+        return new LoanListSnapshot(frozenLoansById, assignees.snapshot());
+    }
+
+    /**
+     * Returns the running analytics totals of all loans in the list.
+     */
+    public LoanAggregate getAggregate() {
+        return aggregate;
+    }
+
+    /**
+     * Returns the running analytics totals of the loans assigned to a person.
+     *
+     * @param assignee A valid person.
+     * @return The totals of the loans assigned to {@code assignee}, which are empty if there are no such loans.
+     */
+    public LoanAggregate getAggregateOf(Person assignee) {
+        requireNonNull(assignee);
+        PersonRef ref = assignees.lookup(assignee);
+        if (ref == null) {
+            return new LoanAggregate(aggregate.getAsOfDay());
+        }
+        return aggregatesByAssignee.get(ref.getId());
+    }
 
     /**
      * Modifies the assignee of all loans attached to a person.
+     * The loans share one reference to the person, so only that reference and the frozen copies of the loans change.
+     * The rows of the loans are only refreshed if the name they show has changed.
      *
      * @param target A valid person.
      * @param editedPerson A valid person.
      */
     public void modifyLoanAssignee(Person target, Person editedPerson) {
-        for (Loan loan : internalList) {
-            if (loan.getAssignee().equals(target)) {
-                loan.setAssignee(editedPerson);
+        requireNonNull(editedPerson);
+        PersonRef ref = assignees.lookup(target);
+        if (ref == null) {
+            return;
+        }
+        PersonRef existingRef = assignees.lookup(editedPerson);
+        if (existingRef == null || existingRef == ref) {
+            assignees.replace(target, editedPerson);
+            for (Loan loan : loansByAssignee.get(ref.getId()).values()) {
+                freeze(loan);
             }
+            editLog.record(() -> modifyLoanAssignee(editedPerson, target),
+                    () -> modifyLoanAssignee(target, editedPerson));
+        } else {
+            List<Loan> movedLoans = getLoansAssignedTo(target);
+            reassign(movedLoans, existingRef);
+            ref = existingRef;
+            editLog.record(() -> {
+                reassign(movedLoans, PersonRef.unregistered(target));
+                refreshLoansAssignedTo(assignees.lookup(target).getId());
+            }, () -> modifyLoanAssignee(target, editedPerson));
         }
 
-        // Just to update the list for GUI
-        if (!internalList.isEmpty()) {
-            internalList.set(0, internalList.get(0));
+        if (!target.getName().equals(editedPerson.getName())) {
+            refreshLoansAssignedTo(ref.getId());
         }
     }
 
+    /**
+     * Assigns each of {@code loans} to the person behind {@code assignee}.
+     */
+    private void reassign(List<Loan> loans, PersonRef assignee) {
+        for (Loan loan : loans) {
+            removeFromIndexes(loan);
+            loan.setAssigneeRef(assignee);
+            addToIndexes(loan);
+        }
+    }
+
+    /**
+     * Replaces the rows of the loans assigned to the person with the given id by themselves, so that the GUI
+     * redraws only those rows. The rows are found through the assignee and position indexes and published as one
+     * change.
+     */
+    private void refreshLoansAssignedTo(int assigneeId) {
+        Map<Integer, Loan> assigneeLoans = loansByAssignee.get(assigneeId);
+        if (assigneeLoans == null) {
+            return;
+        }
+        internalList.beginBatch();
+        try {
+            for (Loan loan : assigneeLoans.values()) {
+                internalList.set(positionsById.get(loan.getId()), loan);
+            }
+        } finally {
+            internalList.endBatch();
+        }
+    }
+
+    /**
+     * Moves the overdue state of all loans to {@code today}.
+     * The loans whose state changed are found from the return day index and applied to the set of overdue loan ids
+     * in one bulk update; the list itself is unchanged.
+     *
+     * @param today The current day as an epoch day.
+     * @return The loans that became overdue since the previous day, ordered by return date.
+     */
+    public List<Loan> rollOverTo(int today) {
+        int previousDay = aggregate.getAsOfDay();
+        List<Loan> newlyOverdueLoans = today > previousDay
+                ? flatten(activeLoansByReturnDay.subMap(previousDay, true, today, false))
+                : new ArrayList<>();
+        aggregate.rollOverTo(today);
+        for (LoanAggregate assigneeAggregate : aggregatesByAssignee.values()) {
+            assigneeAggregate.rollOverTo(today);
+        }
+
+        if (today > previousDay) {
+            overdueLoanIds.addAll(idsOf(activeLoansByReturnDay.subMap(previousDay, true, today, false)));
+        } else if (today < previousDay) {
+            overdueLoanIds.removeAll(idsOf(activeLoansByReturnDay.subMap(today, true, previousDay, false)));
+        }
+        return newlyOverdueLoans;
+    }
+
+    /**
+     * Returns the ids of the loans that are overdue as of the latest day the list was rolled over to, as an
+     * unmodifiable {@code ObservableSet}.
+     */
+    public ObservableSet<Integer> getOverdueLoanIds() {
+        return unmodifiableOverdueLoanIds;
+    }
+
     /**
      * Returns the maximum loan value of all loans.
      *
      * @return The maximum loan value of all loans.
      */
-    public BigDecimal getMaxLoanValue() {
-        BigDecimal maxLoanValue = BigDecimal.ZERO;
-        for (Loan loan : internalList) {
-            if (loan.getValue().compareTo(maxLoanValue) > 0) {
-                maxLoanValue = loan.getValue();
-            }
-        }
-        return maxLoanValue;
+    public Money getMaxLoanValue() {
+        return aggregate.getMaxLoanValue();
     }
 
     /**
@@ -351,13 +836,57 @@ public class UniqueLoanList implements Iterable<Loan> {
      * @return The earliest return date of all loans. Returns null if there are no loans that meet the criteria.
      */
     public Date getEarliestReturnDate() {
-        Date earliestReturnDate = null;
-        for (Loan loan : internalList) {
-            if ((earliestReturnDate == null || loan.getReturnDate().before(earliestReturnDate))
-                    && !loan.isOverdue() && !loan.isReturned()) {
-                earliestReturnDate = loan.getReturnDate();
-            }
+        Integer earliestReturnDay = activeLoansByReturnDay.ceilingKey(aggregate.getAsOfDay());
+        return earliestReturnDay == null ? null : DateUtil.toDate(earliestReturnDay);
+    }
+
+    /**
+     * Returns the latest return date of all loans.
+     * The loan must not be overdue and must not have been returned.
+     *
+     * @return The latest return date of all loans. Returns null if there are no loans that meet the criteria.
+     */
+    public Date getLatestReturnDate() {
+        if (activeLoansByReturnDay.isEmpty() || activeLoansByReturnDay.lastKey() < aggregate.getAsOfDay()) {
+            return null;
+        }
+        return DateUtil.toDate(activeLoansByReturnDay.lastKey());
+    }
+
+    /**
+     * Returns the loans that are overdue, ordered by return date.
+     *
+     * @return A list of the loans that have not been returned and are past their return date.
+     */
+    public List<Loan> getOverdueLoans() {
+        return flatten(activeLoansByReturnDay.headMap(aggregate.getAsOfDay(), false));
+    }
+
+    /**
+     * Returns the loans that are due within a number of days from the day the list was rolled over to, ordered by
+     * return date. Overdue loans are not included.
+     *
+     * @param days A non-negative number of days.
+     * @return A list of the active loans whose return date falls within {@code days} days from that day.
+     */
+    public List<Loan> getLoansDueWithin(int days) {
+        int today = aggregate.getAsOfDay();
+        return flatten(activeLoansByReturnDay.subMap(today, true, today + days, true));
+    }
+
+    private static List<Integer> idsOf(Map<Integer, Map<Integer, Loan>> loansByReturnDay) {
+        List<Integer> ids = new ArrayList<>();
+        for (Map<Integer, Loan> loansDue : loansByReturnDay.values()) {
+            ids.addAll(loansDue.keySet());
+        }
+        return ids;
+    }
+
+    private static List<Loan> flatten(Map<Integer, Map<Integer, Loan>> loansByReturnDay) {
+        List<Loan> loans = new ArrayList<>();
+        for (Map<Integer, Loan> loansDue : loansByReturnDay.values()) {
+            loans.addAll(loansDue.values());
         }
-        return earliestReturnDate;
+        return loans;
     }
 }
@@ -3,11 +3,16 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentIntMap;
+import seedu.address.model.history.EditLog;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -19,29 +24,54 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * as to ensure that the person with exactly the same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * Persons are additionally indexed by name, which is what {@code Person#isSamePerson(Person)} compares, so that
+ * duplicate and membership checks do not scan the list.
+ * Each person also gets a position key that increases in list order, under which the person is kept in a
+ * persistent map, so that {@link #snapshot()} takes constant time.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final BatchingObservableList<Person> internalList = new BatchingObservableList<>();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Name, Person> personsByName = new HashMap<>();
+    private final Map<Name, Integer> positionKeysByName = new HashMap<>();
+    private PersistentIntMap<Person> personsByPositionKey = PersistentIntMap.empty();
+    private int nextPositionKey = 0;
+    private final EditLog editLog;
+
+    /**
+     * Constructs an empty {@code UniquePersonList} whose edits are not recorded.
+     */
+    public UniquePersonList() {
+        this(new EditLog());
+    }
+
+    /**
+     * Constructs an empty {@code UniquePersonList} that records its edits in {@code editLog}.
+     */
+    public UniquePersonList(EditLog editLog) {
+        requireNonNull(editLog);
+        this.editLog = editLog;
+    }
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByName.containsKey(toCheck.getName());
     }
 
     /**
      * Returns true if the list contains an exact person as the given argument.
+     * Names are unique within the list, so the only candidate is the person indexed under the same name.
      */
     public boolean containsExact(Person person) {
         requireNonNull(person);
-        return internalList.stream().anyMatch(person::equals);
+        return person.equals(personsByName.get(person.getName()));
     }
 
     /**
@@ -53,7 +83,33 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        personsByName.put(toAdd.getName(), toAdd);
+        addPositionKey(toAdd, nextPositionKey++);
         internalList.add(toAdd);
+        editLog.record(() -> remove(toAdd), () -> add(toAdd));
+    }
+
+    /**
+     * Adds {@code toAdd} to the end of the list as a single change.
+     * None of the persons may already exist in the list, and none may occur twice in {@code toAdd}.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        Map<Name, Person> additionsByName = indexByName(toAdd);
+        if (additionsByName == null || additionsByName.keySet().stream().anyMatch(personsByName::containsKey)) {
+            throw new DuplicatePersonException();
+        }
+        personsByName.putAll(additionsByName);
+        for (Person person : toAdd) {
+            addPositionKey(person, nextPositionKey++);
+        }
+        internalList.addAll(toAdd);
+        List<Person> added = new ArrayList<>(toAdd);
+        editLog.record(() -> {
+            for (int i = added.size() - 1; i >= 0; i--) {
+                remove(added.get(i));
+            }
+        }, () -> addAll(added));
     }
 
     /**
@@ -64,8 +120,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        if (!containsExact(target)) {
             throw new PersonNotFoundException();
         }
 
@@ -73,7 +128,12 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        int index = internalList.indexOf(target);
+        personsByName.remove(target.getName());
+        personsByName.put(editedPerson.getName(), editedPerson);
+        addPositionKey(editedPerson, positionKeysByName.remove(target.getName()));
         internalList.set(index, editedPerson);
+        editLog.record(() -> setPerson(editedPerson, target), () -> setPerson(target, editedPerson));
     }
 
     /**
@@ -82,14 +142,39 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        if (!containsExact(toRemove)) {
             throw new PersonNotFoundException();
         }
+        int index = internalList.indexOf(toRemove);
+        int positionKey = positionKeysByName.remove(toRemove.getName());
+        personsByName.remove(toRemove.getName());
+        personsByPositionKey = personsByPositionKey.remove(positionKey);
+        internalList.remove(index);
+        editLog.record(() -> insert(index, positionKey, toRemove), () -> remove(toRemove));
+    }
+
+    /**
+     * Puts {@code person} back at {@code index} under its old position key, which lies between the keys of its
+     * neighbours because edits are undone in reverse order.
+     */
+    private void insert(int index, int positionKey, Person person) {
+        personsByName.put(person.getName(), person);
+        addPositionKey(person, positionKey);
+        internalList.add(index, person);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        PersistentIntMap<Person> previousPersons = personsByPositionKey;
+        int previousNextPositionKey = nextPositionKey;
+        personsByName.clear();
+        personsByName.putAll(replacement.personsByName);
+        positionKeysByName.clear();
+        positionKeysByName.putAll(replacement.positionKeysByName);
+        personsByPositionKey = replacement.personsByPositionKey;
+        nextPositionKey = replacement.nextPositionKey;
         internalList.setAll(replacement.internalList);
+        recordReplacement(previousPersons, previousNextPositionKey);
     }
 
     /**
@@ -98,11 +183,75 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
+        Map<Name, Person> replacementByName = indexByName(persons);
+        if (replacementByName == null) {
             throw new DuplicatePersonException();
         }
 
+        PersistentIntMap<Person> previousPersons = personsByPositionKey;
+        int previousNextPositionKey = nextPositionKey;
+        personsByName.clear();
+        personsByName.putAll(replacementByName);
+        positionKeysByName.clear();
+        PersistentIntMap.Builder<Person> personsByKey = PersistentIntMap.builder();
+        nextPositionKey = 0;
+        for (Person person : persons) {
+            positionKeysByName.put(person.getName(), nextPositionKey);
+            personsByKey.put(nextPositionKey++, person);
+        }
+        personsByPositionKey = personsByKey.build();
         internalList.setAll(persons);
+        recordReplacement(previousPersons, previousNextPositionKey);
+    }
+
+    /**
+     * Records the replacement of {@code previousPersons} by the current contents of this list.
+     * Both versions are persistent, so recording them does not copy the list.
+     */
+    private void recordReplacement(PersistentIntMap<Person> previousPersons, int previousNextPositionKey) {
+        PersistentIntMap<Person> currentPersons = personsByPositionKey;
+        int currentNextPositionKey = nextPositionKey;
+        editLog.record(() -> restore(previousPersons, previousNextPositionKey),
+                () -> restore(currentPersons, currentNextPositionKey));
+    }
+
+    /**
+     * Replaces the contents of this list with {@code persons}, keeping their position keys so that persons removed
+     * before the replacement can be put back between their old neighbours.
+     */
+    private void restore(PersistentIntMap<Person> persons, int nextPositionKey) {
+        personsByName.clear();
+        positionKeysByName.clear();
+        persons.forEach((positionKey, person) -> {
+            personsByName.put(person.getName(), person);
+            positionKeysByName.put(person.getName(), positionKey);
+        });
+        personsByPositionKey = persons;
+        this.nextPositionKey = nextPositionKey;
+        internalList.setAll(persons.values());
+    }
+
+    /**
+     * Returns the persons in this list as they are now, in list order, in constant time.
+     * Later changes to this list do not affect the snapshot.
+     */
+    public PersistentIntMap<Person> snapshot() {
+        return personsByPositionKey;
+    }
+
+    /**
+     * Holds back the notifications of the backing list until the matching {@link #endBatch()}, so that the changes
+     * made in between are published as one change.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Ends the latest batch, and publishes the changes made during it if it is the outermost one.
+     */
+    public void endBatch() {
+        internalList.endBatch();
     }
 
     /**
@@ -142,17 +291,21 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    private void addPositionKey(Person person, int positionKey) {
+        positionKeysByName.put(person.getName(), positionKey);
+        personsByPositionKey = personsByPositionKey.put(positionKey, person);
+    }
+
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns {@code persons} indexed by name, or null if {@code persons} contains duplicate persons.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static Map<Name, Person> indexByName(List<Person> persons) {
+        Map<Name, Person> index = new HashMap<>(persons.size() * 2);
+        for (Person person : persons) {
+            if (index.put(person.getName(), person) != null) {
+                return null;
             }
         }
-        return true;
+        return index;
     }
 }
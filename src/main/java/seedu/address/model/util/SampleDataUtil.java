@@ -11,6 +11,7 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
+import seedu.address.model.person.Money;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
@@ -50,7 +51,7 @@ public class SampleDataUtil {
     public static LinkLoanCommand.LinkLoanDescriptor[] getSampleLoans() {
         LinkLoanCommand.LinkLoanDescriptor loanDescriptor;
         try {
-            loanDescriptor = new LinkLoanCommand.LinkLoanDescriptor(BigDecimal.valueOf(100),
+            loanDescriptor = new LinkLoanCommand.LinkLoanDescriptor(Money.of(BigDecimal.valueOf(100)),
                     DateUtil.parse("2021-10-10"),
                     DateUtil.parse("2021-12-10"));
             return new LinkLoanCommand.LinkLoanDescriptor[] {
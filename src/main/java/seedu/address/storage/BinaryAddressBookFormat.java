@@ -0,0 +1,346 @@
+package seedu.address.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.DateUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Loan;
+import seedu.address.model.person.Money;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Encodes address books in a compact binary format, and decodes them again.
+ * <p>
+ * All strings are stored once in a string table at the start and referred to by their index. Every other number is
+ * a varint, with dates as epoch days and loan values in cents. Loans refer to their assignee by its position in the
+ * list of persons. The file ends with the CRC32 of everything before it, so that damaged files are rejected.
+ * Since persons are built from the string table, each distinct phone, email, address or tag is validated only once.
+ */
+class BinaryAddressBookFormat {
+
+    public static final String MESSAGE_NOT_A_SNAPSHOT = "File is not an address book snapshot.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Address book snapshot is of version %d, but only "
+            + "versions up to %d can be read.";
+    public static final String MESSAGE_CORRUPTED = "Address book snapshot is damaged.";
+
+    static final int VERSION = 1;
+
+    private static final int MAGIC = 0x4C475042; // "LGPB"
+    private static final int CHECKSUM_BYTES = Integer.BYTES;
+    private static final int FLAG_RETURNED = 1;
+    private static final int FLAG_EXACT_VALUE = 1 << 1;
+
+    private BinaryAddressBookFormat() {}
+
+    /**
+     * Writes {@code addressBook} encoded in the binary format to {@code out}, which is left open.
+     * The strings of the address book are collected in a first pass, so that the string table, the persons and the
+     * loans can then be written straight to {@code out} while their checksum is computed.
+     */
+    static void encode(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        List<Person> persons = addressBook.getPersonList();
+        List<Loan> loans = addressBook.getLoanList();
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        for (Person person : persons) {
+            intern(strings, person.getName().fullName);
+            intern(strings, person.getPhone().value);
+            intern(strings, person.getEmail().value);
+            intern(strings, person.getAddress().value);
+            for (Tag tag : person.getTags()) {
+                intern(strings, tag.tagName);
+            }
+        }
+        for (Loan loan : loans) {
+            String exactValue = getExactValue(loan);
+            if (exactValue != null) {
+                intern(strings, exactValue);
+            }
+        }
+
+        CRC32 crc = new CRC32();
+        Encoder checked = new Encoder(new BufferedOutputStream(new CheckedOutputStream(out, crc)));
+        checked.writeInt(MAGIC);
+        checked.writeVarInt(VERSION);
+        checked.writeVarInt(strings.size());
+        for (String string : strings.keySet()) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            checked.writeVarInt(bytes.length);
+            checked.write(bytes);
+        }
+
+        Map<Person, Integer> personKeys = new HashMap<>();
+        checked.writeVarInt(persons.size());
+        for (Person person : persons) {
+            personKeys.put(person, personKeys.size());
+            checked.writeVarInt(strings.get(person.getName().fullName));
+            checked.writeVarInt(strings.get(person.getPhone().value));
+            checked.writeVarInt(strings.get(person.getEmail().value));
+            checked.writeVarInt(strings.get(person.getAddress().value));
+            checked.writeVarInt(person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                checked.writeVarInt(strings.get(tag.tagName));
+            }
+        }
+
+        checked.writeVarInt(loans.size());
+        for (Loan loan : loans) {
+            Integer assigneeKey = personKeys.get(loan.getAssignee());
+            assert assigneeKey != null : "Loans must be assigned to a person of the address book";
+            String exactValue = getExactValue(loan);
+            checked.writeVarInt(loan.getId());
+            checked.writeVarInt((loan.isReturned() ? FLAG_RETURNED : 0) | (exactValue != null ? FLAG_EXACT_VALUE : 0));
+            if (exactValue != null) {
+                checked.writeVarInt(strings.get(exactValue));
+            } else {
+                checked.writeVarLong(loan.getValue().toBigDecimal().unscaledValue().longValue());
+            }
+            checked.writeSignedVarInt(loan.getStartDay());
+            checked.writeSignedVarInt(loan.getReturnDay() - loan.getStartDay());
+            checked.writeVarInt(assigneeKey);
+        }
+        checked.flush();
+
+        new Encoder(out).writeInt((int) crc.getValue());
+    }
+
+    /**
+     * Returns the value of {@code loan} as a string if it cannot be stored as a number of cents, or null otherwise.
+     */
+    private static String getExactValue(Loan loan) {
+        BigDecimal value = loan.getValue().toBigDecimal();
+        boolean isExact = value.scale() != 2 || value.unscaledValue().bitLength() >= Long.SIZE;
+        return isExact ? value.toString() : null;
+    }
+
+    /**
+     * Decodes the address book in {@code buffer}, from its position up to its limit.
+     *
+     * @throws IllegalValueException if {@code buffer} does not hold a valid address book of a supported version.
+     */
+    static AddressBook decode(ByteBuffer buffer) throws IllegalValueException {
+        try {
+            checkIntegrity(buffer.duplicate());
+            Decoder in = new Decoder(buffer);
+            in.buffer.getInt(); // magic, checked above
+            int version = in.readVarInt();
+            if (version > VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version, VERSION));
+            }
+
+            String[] strings = new String[in.readLength()];
+            for (int i = 0; i < strings.length; i++) {
+                byte[] bytes = new byte[in.readLength()];
+                in.buffer.get(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+            ValueTable<Phone> phones = new ValueTable<>(strings, Phone::new);
+            ValueTable<Email> emails = new ValueTable<>(strings, Email::new);
+            ValueTable<Address> addresses = new ValueTable<>(strings, Address::new);
+            ValueTable<Tag> tags = new ValueTable<>(strings, Tag::new);
+
+            Person[] persons = new Person[in.readLength()];
+            for (int i = 0; i < persons.length; i++) {
+                Name name = toValue(Name::new, strings[in.readVarInt()]);
+                Phone phone = phones.get(in.readVarInt());
+                Email email = emails.get(in.readVarInt());
+                Address address = addresses.get(in.readVarInt());
+                Set<Tag> personTags = new HashSet<>();
+                for (int tagCount = in.readVarInt(); tagCount > 0; tagCount--) {
+                    personTags.add(tags.get(in.readVarInt()));
+                }
+                persons[i] = new Person(name, phone, email, address, personTags);
+            }
+
+            List<Loan> loans = new ArrayList<>();
+            for (int loanCount = in.readVarInt(); loanCount > 0; loanCount--) {
+                int id = in.readVarInt();
+                int flags = in.readVarInt();
+                Money value = (flags & FLAG_EXACT_VALUE) != 0
+                        ? Money.of(new BigDecimal(strings[in.readVarInt()]))
+                        : Money.ofCents(in.readVarLong());
+                int startDay = in.readSignedVarInt();
+                int returnDay = startDay + in.readSignedVarInt();
+                Person assignee = persons[in.readVarInt()];
+                if (id < 0) {
+                    throw new IllegalValueException(MESSAGE_CORRUPTED);
+                }
+                if (value.signum() <= 0) {
+                    throw new IllegalValueException(Loan.VALUE_CONSTRAINTS);
+                }
+                if (startDay >= returnDay) {
+                    throw new IllegalValueException(Loan.DATE_CONSTRAINTS);
+                }
+                loans.add(new Loan(id, value, DateUtil.toDate(startDay), DateUtil.toDate(returnDay),
+                        (flags & FLAG_RETURNED) != 0, assignee));
+            }
+            if (in.buffer.remaining() != CHECKSUM_BYTES) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            return JsonSerializableAddressBook.toAddressBook(Arrays.asList(persons), loans);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | NumberFormatException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED, e);
+        }
+    }
+
+    private static void checkIntegrity(ByteBuffer buffer) throws IllegalValueException {
+        if (buffer.remaining() < Integer.BYTES + CHECKSUM_BYTES || buffer.getInt(buffer.position()) != MAGIC) {
+            throw new IllegalValueException(MESSAGE_NOT_A_SNAPSHOT);
+        }
+        int checksumPosition = buffer.limit() - CHECKSUM_BYTES;
+        int expectedChecksum = buffer.getInt(checksumPosition);
+        buffer.limit(checksumPosition);
+        CRC32 crc = new CRC32();
+        crc.update(buffer);
+        if ((int) crc.getValue() != expectedChecksum) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+    }
+
+    private static void intern(Map<String, Integer> strings, String string) {
+        strings.putIfAbsent(string, strings.size());
+    }
+
+    private static <T> T toValue(Function<String, T> constructor, String string) throws IllegalValueException {
+        try {
+            return constructor.apply(string);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Model values built from the string table, each built and validated at most once.
+     */
+    private static class ValueTable<T> {
+        private final String[] strings;
+        private final Function<String, T> constructor;
+        private final Object[] values;
+
+        ValueTable(String[] strings, Function<String, T> constructor) {
+            this.strings = strings;
+            this.constructor = constructor;
+            this.values = new Object[strings.length];
+        }
+
+        @SuppressWarnings("unchecked")
+        T get(int index) throws IllegalValueException {
+            if (values[index] == null) {
+                values[index] = toValue(constructor, strings[index]);
+            }
+            return (T) values[index];
+        }
+    }
+
+    /**
+     * Writes numbers in the binary format to an output stream.
+     */
+    private static class Encoder {
+        private final OutputStream out;
+
+        Encoder(OutputStream out) {
+            this.out = out;
+        }
+
+        void write(byte[] bytes) throws IOException {
+            out.write(bytes);
+        }
+
+        void writeInt(int value) throws IOException {
+            for (int shift = 24; shift >= 0; shift -= 8) {
+                out.write(value >>> shift);
+            }
+        }
+
+        void writeVarInt(int value) throws IOException {
+            writeVarLong(value & 0xFFFFFFFFL);
+        }
+
+        void writeSignedVarInt(int value) throws IOException {
+            writeVarInt((value << 1) ^ (value >> 31));
+        }
+
+        void writeVarLong(long value) throws IOException {
+            while ((value & ~0x7FL) != 0) {
+                out.write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            out.write((int) value);
+        }
+
+        void flush() throws IOException {
+            out.flush();
+        }
+    }
+
+    /**
+     * Reads numbers in the binary format from a buffer.
+     */
+    private static class Decoder {
+        private final ByteBuffer buffer;
+
+        Decoder(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        int readVarInt() throws IllegalValueException {
+            long value = readVarLong();
+            if ((value >>> Integer.SIZE) != 0) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            return (int) value;
+        }
+
+        /**
+         * Reads the number of items or bytes that follow, each of which takes up at least one byte.
+         * A length that the rest of the buffer cannot hold is rejected before anything is allocated for it.
+         */
+        int readLength() throws IllegalValueException {
+            int length = readVarInt();
+            if (length < 0 || length > buffer.remaining()) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            return length;
+        }
+
+        int readSignedVarInt() throws IllegalValueException {
+            int value = readVarInt();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        long readVarLong() throws IllegalValueException {
+            long value = 0;
+            for (int shift = 0; shift < Long.SIZE; shift += 7) {
+                byte b = buffer.get();
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+    }
+}
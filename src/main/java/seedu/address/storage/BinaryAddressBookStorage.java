@@ -0,0 +1,130 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a binary snapshot on the hard disk.
+ * The snapshot is kept beside the JSON data file, which stays the format for exchanging data with other tools and
+ * for editing by hand. The JSON data file is read instead of the snapshot if it is the newer of the two, so that
+ * data copied into it is picked up. Saving only writes the snapshot, which it replaces atomically, and can keep a
+ * number of earlier snapshots as backups, which are read instead of a snapshot that cannot be loaded.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String SNAPSHOT_FILE_EXTENSION = ".bin";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+    private final Path jsonFilePath;
+    private final int backupCount;
+
+    /**
+     * Constructs a {@code BinaryAddressBookStorage} that keeps its snapshot beside the JSON data file at
+     * {@code jsonFilePath}.
+     */
+    public BinaryAddressBookStorage(Path jsonFilePath) {
+        this(jsonFilePath, 0);
+    }
+
+    /**
+     * Constructs a {@code BinaryAddressBookStorage} that keeps its snapshot beside the JSON data file at
+     * {@code jsonFilePath}, together with up to {@code backupCount} earlier snapshots.
+     */
+    public BinaryAddressBookStorage(Path jsonFilePath, int backupCount) {
+        requireNonNull(jsonFilePath);
+        this.jsonFilePath = jsonFilePath;
+        this.filePath = getSnapshotPath(jsonFilePath);
+        this.backupCount = backupCount;
+    }
+
+    /**
+     * Returns the path of the snapshot kept beside the JSON data file at {@code jsonFilePath}.
+     */
+    public static Path getSnapshotPath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        String baseName = fileName.endsWith(".json") ? fileName.substring(0, fileName.length() - 5) : fileName;
+        return jsonFilePath.resolveSibling(baseName + SNAPSHOT_FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the address book in the snapshot, or in the JSON data file if that is newer.
+     * If the snapshot cannot be loaded, its newest backup that can be loaded is read instead.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        try {
+            if (Files.exists(jsonFilePath) && (!Files.exists(filePath)
+                    || Files.getLastModifiedTime(jsonFilePath).compareTo(Files.getLastModifiedTime(filePath)) > 0)) {
+                logger.info("Importing address book from " + jsonFilePath);
+                return new JsonAddressBookStorage(jsonFilePath).readAddressBook();
+            }
+        } catch (IOException e) {
+            logger.warning("Error comparing " + jsonFilePath + " with " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        return DataFileGenerations.readNewest(filePath, backupCount, this::readAddressBook);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}, but only reads the snapshot at {@code filePath}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(FileUtil.readMapped(filePath, BinaryAddressBookFormat::decode));
+        } catch (IOException e) {
+            logger.warning("Error reading from " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The snapshot is encoded straight into a temporary file, which then replaces the old snapshot.
+     *
+     * @see FileUtil#writeAtomically(Path, int, FileUtil.ContentWriter)
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeAtomically(filePath, backupCount, out -> BinaryAddressBookFormat.encode(addressBook, out));
+    }
+}
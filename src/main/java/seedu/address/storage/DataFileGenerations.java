@@ -0,0 +1,62 @@
+package seedu.address.storage;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Reads the newest generation of a data file that can be loaded, which is the data file itself or else the newest
+ * of the backups of it kept by {@link FileUtil#replace(Path, Path, int)}.
+ */
+class DataFileGenerations {
+
+    private static final Logger logger = LogsCenter.getLogger(DataFileGenerations.class);
+
+    private DataFileGenerations() {}
+
+    /**
+     * Returns the address book that {@code reader} reads from the newest generation of the data file at
+     * {@code filePath} that it can load, looking at up to {@code backupCount} backups.
+     *
+     * @throws DataLoadingException the exception thrown for the newest generation, if no generation can be loaded.
+     */
+    static Optional<ReadOnlyAddressBook> readNewest(Path filePath, int backupCount, Reader reader)
+            throws DataLoadingException {
+        DataLoadingException failure = null;
+        for (Path path : FileUtil.getGenerationPaths(filePath, backupCount)) {
+            if (!Files.exists(path)) {
+                continue;
+            }
+            try {
+                Optional<ReadOnlyAddressBook> addressBook = reader.read(path);
+                if (!path.equals(filePath)) {
+                    logger.warning("Loaded backup " + path + " instead of " + filePath);
+                }
+                return addressBook;
+            } catch (DataLoadingException e) {
+                logger.warning("Data file " + path + " could not be loaded: " + e.getMessage());
+                if (failure == null) {
+                    failure = e;
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Reads the address book in a single generation of a data file.
+     */
+    @FunctionalInterface
+    interface Reader {
+        Optional<ReadOnlyAddressBook> read(Path filePath) throws DataLoadingException;
+    }
+}
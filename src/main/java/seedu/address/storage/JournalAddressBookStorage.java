@@ -0,0 +1,467 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.ByteBufferInputStream;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Loan;
+import seedu.address.model.person.LoanListSnapshot;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored as a json file on the hard disk, together with a journal of the changes
+ * made since the file was last written.
+ * The data file has the same format as the one of {@link JsonAddressBookStorage}. Saving a snapshot of the address
+ * book that was saved before only appends one line per changed person or loan to the journal, with a single sync.
+ * Once the journal grows beyond a threshold, it is compacted into a fresh data file on a background thread.
+ * The journal starts with the checksum of the data file it applies to, so a journal left over from an older data
+ * file, for example one that was edited by hand, is ignored. A journal that is damaged part way is replayed up to
+ * its last valid record, and the next save starts a fresh data file from what was read.
+ * A number of the data files replaced by compaction can be kept as backups, which are read, without the changes
+ * journaled since, instead of a data file that cannot be loaded.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final long DEFAULT_COMPACTION_THRESHOLD_BYTES = 1 << 20;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+    private static final ObjectReader RECORD_READER = JsonUtil.readerFor(JsonAdaptedJournalRecord.class);
+
+    private final Path filePath;
+    private final long compactionThresholdBytes;
+    private final int backupCount;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // The fields below describe the data file and journal last written, and are guarded by this object.
+    private Path savedFilePath;
+    private AddressBookSnapshot savedSnapshot;
+    private FileChannel journal;
+    private int generation;
+    private boolean isCompacting;
+
+    /**
+     * Constructs a {@code JournalAddressBookStorage} over the data file at {@code filePath} that compacts its journal
+     * once it exceeds {@link #DEFAULT_COMPACTION_THRESHOLD_BYTES}.
+     */
+    public JournalAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD_BYTES);
+    }
+
+    /**
+     * Constructs a {@code JournalAddressBookStorage} over the data file at {@code filePath} that compacts its journal
+     * once it exceeds {@code compactionThresholdBytes}.
+     */
+    public JournalAddressBookStorage(Path filePath, long compactionThresholdBytes) {
+        this(filePath, compactionThresholdBytes, 0);
+    }
+
+    /**
+     * Constructs a {@code JournalAddressBookStorage} over the data file at {@code filePath} that compacts its journal
+     * once it exceeds {@code compactionThresholdBytes}, and keeps up to {@code backupCount} earlier data files.
+     */
+    public JournalAddressBookStorage(Path filePath, long compactionThresholdBytes, int backupCount) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.compactionThresholdBytes = compactionThresholdBytes;
+        this.backupCount = backupCount;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal kept beside the data file at {@code filePath}.
+     */
+    public static Path getJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + ".journal");
+    }
+
+    /**
+     * Returns the address book in the data file and its journal, or in the newest backup of the data file that can
+     * be loaded if the data file cannot.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return DataFileGenerations.readNewest(filePath, backupCount, this::readAddressBook);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The changes in the journal are applied to the data file read. A journal with a line that cannot be read or
+     * applied, such as the partly written line left behind by a crash during a save, is replayed up to that line.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            CRC32 checksum = new CRC32();
+            AddressBook base = FileUtil.readMapped(filePath, data -> {
+                checksum.update(data.duplicate());
+                return JsonAddressBookStream.read(new ByteBufferInputStream(data));
+            });
+            Optional<List<JsonAdaptedJournalRecord>> records = readJournalOver(filePath, checksum.getValue());
+            if (!records.isPresent()) {
+                return Optional.of(base);
+            }
+            return Optional.of(replay(base, records.get()));
+        } catch (IOException e) {
+            logger.warning("Error reading from " + filePath + " or its journal: " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + " or its journal: " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only snapshots of the address book that was saved last to {@code filePath} are saved to the journal. Anything
+     * else is saved by writing a fresh data file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (journal == null || !filePath.equals(savedFilePath) || !(addressBook instanceof AddressBookSnapshot)) {
+            writeDataFile(addressBook, filePath);
+            return;
+        }
+
+        AddressBookSnapshot snapshot = (AddressBookSnapshot) addressBook;
+        List<JsonAdaptedJournalRecord> records = changesBetween(savedSnapshot, snapshot);
+        try {
+            append(records);
+        } catch (IOException e) {
+            closeJournal();
+            throw e;
+        }
+        savedSnapshot = snapshot;
+        if (!isCompacting && journal.size() > compactionThresholdBytes) {
+            startCompaction();
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to a fresh data file at {@code filePath}, with an empty journal.
+     */
+    private void writeDataFile(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        closeJournal();
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFilePath = FileUtil.getTempPath(filePath);
+        long checksum = writeDurably(tempFilePath, addressBook);
+        install(filePath, tempFilePath, checksum, getPersonKeys(addressBook), new byte[0]);
+        savedSnapshot = addressBook instanceof AddressBookSnapshot ? (AddressBookSnapshot) addressBook : null;
+        if (savedSnapshot == null) {
+            closeJournal();
+        }
+    }
+
+    /**
+     * Replaces the data file at {@code filePath} by the one at {@code tempFilePath}, whose content has the given
+     * checksum, and starts a new journal over it that continues with {@code journalTail}.
+     * The new journal is written before either file is replaced, so that a crash in between leaves either the old
+     * data file and journal, or the new data file and a journal that can be found beside it.
+     */
+    private void install(Path filePath, Path tempFilePath, long checksum, List<Integer> personKeys,
+            byte[] journalTail) throws IOException {
+        Path journalPath = getJournalPath(filePath);
+        Path nextJournalPath = getNextJournalPath(filePath);
+        byte[] header = toJsonLine(JsonAdaptedJournalRecord.base(checksum, personKeys));
+        ByteBuffer newJournal = ByteBuffer.allocate(header.length + journalTail.length).put(header).put(journalTail);
+        FileUtil.writeDurably(nextJournalPath, newJournal.array());
+
+        closeJournal();
+        FileUtil.replace(filePath, tempFilePath, backupCount);
+        FileUtil.moveAtomically(nextJournalPath, journalPath);
+        journal = FileChannel.open(journalPath, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        savedFilePath = filePath;
+        generation++;
+    }
+
+    /**
+     * Compacts the journal into a fresh data file on the background thread.
+     * Changes saved while the data file is being written are carried over to the new journal.
+     */
+    private void startCompaction() throws IOException {
+        isCompacting = true;
+        AddressBookSnapshot base = savedSnapshot;
+        Path baseFilePath = savedFilePath;
+        long baseJournalSize = journal.size();
+        int baseGeneration = generation;
+        logger.info("Compacting address book journal of " + baseJournalSize + " bytes");
+        compactor.execute(() -> {
+            try {
+                Path tempFilePath = baseFilePath.resolveSibling(baseFilePath.getFileName() + ".compact.tmp");
+                long checksum = writeDurably(tempFilePath, base);
+                synchronized (this) {
+                    if (generation != baseGeneration || journal == null) {
+                        Files.deleteIfExists(tempFilePath);
+                        return;
+                    }
+                    byte[] tail = readFrom(getJournalPath(baseFilePath), baseJournalSize);
+                    install(baseFilePath, tempFilePath, checksum, getPersonKeys(base), tail);
+                }
+            } catch (IOException e) {
+                logger.warning("Failed to compact address book journal: " + e);
+            } finally {
+                synchronized (this) {
+                    isCompacting = false;
+                }
+            }
+        });
+    }
+
+    /**
+     * Waits until any compaction started so far has finished.
+     */
+    void awaitCompaction() throws InterruptedException, ExecutionException {
+        compactor.submit(() -> { }).get();
+    }
+
+    private void append(List<JsonAdaptedJournalRecord> records) throws IOException {
+        if (records.isEmpty()) {
+            return;
+        }
+        List<byte[]> lines = new ArrayList<>(records.size());
+        int length = 0;
+        for (JsonAdaptedJournalRecord record : records) {
+            byte[] line = toJsonLine(record);
+            lines.add(line);
+            length += line.length;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        lines.forEach(buffer::put);
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            journal.write(buffer);
+        }
+        journal.force(false);
+    }
+
+    private void closeJournal() {
+        if (journal == null) {
+            return;
+        }
+        try {
+            journal.close();
+        } catch (IOException e) {
+            logger.warning("Failed to close address book journal: " + e);
+        }
+        journal = null;
+    }
+
+    /**
+     * Returns the records that turn {@code before} into {@code after}.
+     * Persons are compared by position and loans by id, so this takes time proportional to the number of changes.
+     */
+    private static List<JsonAdaptedJournalRecord> changesBetween(AddressBookSnapshot before,
+            AddressBookSnapshot after) {
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        before.getPersonsByPosition().forEachChange(after.getPersonsByPosition(), (key, oldPerson, newPerson) ->
+                records.add(newPerson == null
+                        ? JsonAdaptedJournalRecord.removePerson(key)
+                        : JsonAdaptedJournalRecord.putPerson(key, newPerson)));
+
+        LoanListSnapshot beforeLoans = before.getLoanSnapshot();
+        LoanListSnapshot afterLoans = after.getLoanSnapshot();
+        // loans whose assignee was edited are unchanged themselves, so the edit is recorded once for all of them
+        beforeLoans.getAssignees().forEachChange(afterLoans.getAssignees(), (id, oldAssignee, newAssignee) -> {
+            if (oldAssignee != null && newAssignee != null) {
+                records.add(JsonAdaptedJournalRecord.replaceAssignee(oldAssignee, newAssignee));
+            }
+        });
+        beforeLoans.getFrozenLoans().forEachChange(afterLoans.getFrozenLoans(), (id, oldLoan, newLoan) -> {
+            if (newLoan == null) {
+                records.add(JsonAdaptedJournalRecord.removeLoan(id));
+            } else if (oldLoan == null || !oldLoan.hasSameDetails(newLoan)) {
+                records.add(JsonAdaptedJournalRecord.putLoan(newLoan));
+            }
+        });
+        return records;
+    }
+
+    /**
+     * Returns the records of the journal over the data file with the given checksum, without its first record, or
+     * an empty {@code Optional} if there is no such journal.
+     */
+    private static Optional<List<JsonAdaptedJournalRecord>> readJournalOver(Path filePath, long checksum)
+            throws IOException {
+        // a crash while a new data file was installed can leave its journal under the name it was written to
+        for (Path journalPath : List.of(getJournalPath(filePath), getNextJournalPath(filePath))) {
+            if (!Files.exists(journalPath)) {
+                continue;
+            }
+            Optional<List<JsonAdaptedJournalRecord>> records = readJournal(journalPath, checksum);
+            if (records.isPresent()) {
+                return records;
+            }
+            logger.info("Ignoring journal " + journalPath + " of another data file");
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the records of the journal at {@code journalPath}, or an empty {@code Optional} if it is not over the
+     * data file with the given checksum. The records are parsed straight from the journal file, one line at a time,
+     * up to the first line that cannot be parsed.
+     */
+    private static Optional<List<JsonAdaptedJournalRecord>> readJournal(Path journalPath, long checksum)
+            throws IOException {
+        ByteBuffer content = FileUtil.readToBuffer(journalPath);
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        int lineStart = content.position();
+        while (lineStart < content.limit()) {
+            int lineEnd = lineStart;
+            while (lineEnd < content.limit() && content.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            ByteBuffer line = content.duplicate();
+            line.position(lineStart).limit(lineEnd);
+            lineStart = lineEnd + 1;
+            if (!line.hasRemaining()) {
+                continue;
+            }
+
+            try {
+                records.add(RECORD_READER.readValue(new ByteBufferInputStream(line)));
+            } catch (IOException e) {
+                boolean isLastLine = lineEnd == content.limit();
+                logger.warning(isLastLine
+                        ? "Ignoring partly written last line of journal " + journalPath
+                        : "Ignoring journal " + journalPath + " from its damaged record " + (records.size() + 1)
+                                + " on: " + e.getMessage());
+                break;
+            }
+            if (records.size() == 1 && !records.get(0).isBaseOf(checksum)) {
+                return Optional.empty();
+            }
+        }
+        return records.isEmpty() ? Optional.empty() : Optional.of(records);
+    }
+
+    /**
+     * Returns {@code base} with the changes of {@code records} applied, whose first record is the journal's base.
+     * The records are applied up to the first one that is not a valid change.
+     */
+    private static AddressBook replay(AddressBook base, List<JsonAdaptedJournalRecord> records)
+            throws IllegalValueException {
+        JournalReplay replay = new JournalReplay();
+        records.get(0).keyPersons(base.getPersonList(), replay);
+        for (Loan loan : base.getLoanList()) {
+            replay.putLoan(loan.getId(), loan);
+        }
+        for (int i = 1; i < records.size(); i++) {
+            try {
+                records.get(i).applyTo(replay);
+            } catch (IllegalValueException ive) {
+                logger.warning("Ignoring journal from its invalid record " + (i + 1) + " on: " + ive.getMessage());
+                break;
+            }
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(replay.getPersons());
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+        List<Loan> loans = replay.getLoans();
+        for (Loan loan : loans) {
+            if (!addressBook.hasExactPerson(loan.getAssignee())) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_ORPHAN_LOAN);
+            }
+        }
+        addressBook.setLoans(loans);
+        return addressBook;
+    }
+
+    private static List<Integer> getPersonKeys(ReadOnlyAddressBook addressBook) {
+        List<Integer> keys = new ArrayList<>();
+        if (addressBook instanceof AddressBookSnapshot) {
+            ((AddressBookSnapshot) addressBook).getPersonsByPosition().forEach((key, person) -> keys.add(key));
+        } else {
+            for (int i = 0; i < addressBook.getPersonList().size(); i++) {
+                keys.add(i);
+            }
+        }
+        return keys;
+    }
+
+    private static Path getNextJournalPath(Path filePath) {
+        Path journalPath = getJournalPath(filePath);
+        return journalPath.resolveSibling(journalPath.getFileName() + ".next");
+    }
+
+    private static byte[] toJsonLine(JsonAdaptedJournalRecord record) throws IOException {
+        return (JsonUtil.toJsonLine(record) + "\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes {@code addressBook} as the only content of the file at {@code path} and waits until it is on disk.
+     *
+     * @return The checksum of the content written.
+     */
+    private static long writeDurably(Path path, ReadOnlyAddressBook addressBook) throws IOException {
+        CRC32 checksum = new CRC32();
+        FileUtil.writeDurably(path, out ->
+                JsonAddressBookStream.write(addressBook, new CheckedOutputStream(out, checksum)));
+        return checksum.getValue();
+    }
+
+    private static byte[] readFrom(Path path, long position) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate((int) (channel.size() - position));
+            while (buffer.hasRemaining() && channel.read(buffer, position + buffer.position()) != -1) {
+                // keep reading until the whole tail is in the buffer
+            }
+            return buffer.array();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.model.person.Loan;
+import seedu.address.model.person.Person;
+
+/**
+ * The persons and loans of an address book being rebuilt from a data file and the records of its journal.
+ * Persons are kept by position key and loans by id, both in ascending order. Loans are also indexed by assignee, so
+ * that replacing an assignee only visits the loans assigned to it.
+ */
+class JournalReplay {
+
+    private final Map<Integer, Person> personsByKey = new TreeMap<>();
+    private final Map<Integer, Loan> loansById = new TreeMap<>();
+    private final Map<Person, Set<Integer>> loanIdsByAssignee = new HashMap<>();
+
+    void putPerson(int key, Person person) {
+        personsByKey.put(key, person);
+    }
+
+    void removePerson(int key) {
+        personsByKey.remove(key);
+    }
+
+    /**
+     * Puts {@code loan} under {@code id}, replacing any loan already kept under it.
+     */
+    void putLoan(int id, Loan loan) {
+        removeLoan(id);
+        loansById.put(id, loan);
+        loanIdsByAssignee.computeIfAbsent(loan.getAssignee(), assignee -> new HashSet<>()).add(id);
+    }
+
+    /**
+     * Removes the loan kept under {@code id}, if any.
+     */
+    void removeLoan(int id) {
+        Loan removed = loansById.remove(id);
+        if (removed == null) {
+            return;
+        }
+        Set<Integer> assigneeLoanIds = loanIdsByAssignee.get(removed.getAssignee());
+        assigneeLoanIds.remove(id);
+        if (assigneeLoanIds.isEmpty()) {
+            loanIdsByAssignee.remove(removed.getAssignee());
+        }
+    }
+
+    /**
+     * Assigns the loans of {@code replacedPerson} to {@code person} instead.
+     */
+    void replaceAssignee(Person replacedPerson, Person person) {
+        Set<Integer> ids = loanIdsByAssignee.remove(replacedPerson);
+        if (ids == null) {
+            return;
+        }
+        for (int id : ids) {
+            Loan existing = loansById.get(id);
+            loansById.put(id, new Loan(existing.getId(), existing.getValue(), existing.getStartDate(),
+                    existing.getReturnDate(), existing.isReturned(), person));
+        }
+        loanIdsByAssignee.computeIfAbsent(person, assignee -> new HashSet<>()).addAll(ids);
+    }
+
+    /**
+     * Returns the persons in order of their position keys.
+     */
+    List<Person> getPersons() {
+        return new ArrayList<>(personsByKey.values());
+    }
+
+    /**
+     * Returns the loans in order of their ids.
+     */
+    List<Loan> getLoans() {
+        return new ArrayList<>(loansById.values());
+    }
+}
@@ -0,0 +1,155 @@
+package seedu.address.storage;
+
+import java.util.Iterator;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Loan;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of one record of an address book journal.
+ * The first record of a journal names the data file it applies to. Every later record describes one change to the
+ * persons, keyed by their position in the list, or to the loans, keyed by their id.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    public static final String MESSAGE_UNKNOWN_OPERATION = "Journal contains an unknown operation: %s";
+    public static final String MESSAGE_MISSING_FIELD = "Journal record is missing a field for operation: %s";
+    public static final String MESSAGE_PERSON_KEYS_MISMATCH = "Journal does not match the persons in the data file.";
+
+    static final String BASE = "base";
+    static final String PUT_PERSON = "putPerson";
+    static final String REMOVE_PERSON = "removePerson";
+    static final String REPLACE_ASSIGNEE = "replaceAssignee";
+    static final String PUT_LOAN = "putLoan";
+    static final String REMOVE_LOAN = "removeLoan";
+
+    private final String op;
+    private final Long checksum;
+    private final List<Integer> personKeys;
+    private final Integer key;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedPerson replacedPerson;
+    private final JsonAdaptedLoan loan;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("op") String op, @JsonProperty("checksum") Long checksum,
+            @JsonProperty("personKeys") List<Integer> personKeys, @JsonProperty("key") Integer key,
+            @JsonProperty("person") JsonAdaptedPerson person,
+            @JsonProperty("replacedPerson") JsonAdaptedPerson replacedPerson,
+            @JsonProperty("loan") JsonAdaptedLoan loan) {
+        this.op = op;
+        this.checksum = checksum;
+        this.personKeys = personKeys;
+        this.key = key;
+        this.person = person;
+        this.replacedPerson = replacedPerson;
+        this.loan = loan;
+    }
+
+    /**
+     * Returns the first record of a journal over the data file with the given checksum, whose persons have the
+     * given position keys in list order.
+     */
+    static JsonAdaptedJournalRecord base(long checksum, List<Integer> personKeys) {
+        return new JsonAdaptedJournalRecord(BASE, checksum, personKeys, null, null, null, null);
+    }
+
+    static JsonAdaptedJournalRecord putPerson(int positionKey, Person person) {
+        return new JsonAdaptedJournalRecord(PUT_PERSON, null, null, positionKey, new JsonAdaptedPerson(person),
+                null, null);
+    }
+
+    static JsonAdaptedJournalRecord removePerson(int positionKey) {
+        return new JsonAdaptedJournalRecord(REMOVE_PERSON, null, null, positionKey, null, null, null);
+    }
+
+    /**
+     * Returns a record that assigns the loans of {@code replacedPerson} to {@code person} instead.
+     */
+    static JsonAdaptedJournalRecord replaceAssignee(Person replacedPerson, Person person) {
+        return new JsonAdaptedJournalRecord(REPLACE_ASSIGNEE, null, null, null, new JsonAdaptedPerson(person),
+                new JsonAdaptedPerson(replacedPerson), null);
+    }
+
+    static JsonAdaptedJournalRecord putLoan(Loan loan) {
+        return new JsonAdaptedJournalRecord(PUT_LOAN, null, null, loan.getId(), null, null, new JsonAdaptedLoan(loan));
+    }
+
+    static JsonAdaptedJournalRecord removeLoan(int id) {
+        return new JsonAdaptedJournalRecord(REMOVE_LOAN, null, null, id, null, null, null);
+    }
+
+    boolean isBase() {
+        return BASE.equals(op);
+    }
+
+    /**
+     * Returns true if this is the first record of a journal over the data file with the given checksum.
+     */
+    boolean isBaseOf(long dataChecksum) {
+        return isBase() && checksum != null && checksum == dataChecksum;
+    }
+
+    /**
+     * Applies the change described by this record to {@code replay}.
+     * Nothing is changed if this record is not a valid change.
+     *
+     * @throws IllegalValueException if this record is not a valid change.
+     */
+    void applyTo(JournalReplay replay) throws IllegalValueException {
+        if (op == null) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_OPERATION, op));
+        }
+        switch (op) {
+        case PUT_PERSON:
+            replay.putPerson(requireField(key), requireField(person).toModelType());
+            break;
+        case REMOVE_PERSON:
+            replay.removePerson(requireField(key));
+            break;
+        case REPLACE_ASSIGNEE:
+            replay.replaceAssignee(requireField(replacedPerson).toModelType(), requireField(person).toModelType());
+            break;
+        case PUT_LOAN:
+            replay.putLoan(requireField(key), requireField(loan).toModelType());
+            break;
+        case REMOVE_LOAN:
+            replay.removeLoan(requireField(key));
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_OPERATION, op));
+        }
+    }
+
+    /**
+     * Puts {@code personsInOrder} into {@code replay} under the position keys named by this base record.
+     *
+     * @throws IllegalValueException if the number of keys does not match the number of persons.
+     */
+    void keyPersons(List<Person> personsInOrder, JournalReplay replay) throws IllegalValueException {
+        if (requireField(personKeys).size() != personsInOrder.size()) {
+            throw new IllegalValueException(MESSAGE_PERSON_KEYS_MISMATCH);
+        }
+        Iterator<Integer> keys = personKeys.iterator();
+        for (Person p : personsInOrder) {
+            replay.putPerson(keys.next(), p);
+        }
+    }
+
+    private <T> T requireField(T field) throws IllegalValueException {
+        if (field == null) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_FIELD, op));
+        }
+        return field;
+    }
+}
@@ -1,24 +1,36 @@
 package seedu.address.storage;
 
 import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.DateUtil;
 import seedu.address.model.person.Loan;
+import seedu.address.model.person.Money;
+import seedu.address.model.person.Person;
 
 /**
  * Jackson-friendly version of {@link Loan}.
+ * The assignee is either embedded in full, or referred to by its key, which is its position in the list of persons
+ * saved with the loan.
  */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class JsonAdaptedLoan {
 
+    public static final String MISSING_ASSIGNEE_MESSAGE = "Loan's assignee field is missing!";
+    public static final String INVALID_ASSIGNEE_KEY_MESSAGE = "Loan's assignee key does not refer to a saved person.";
+
     private final BigDecimal value;
     private final String startDate;
     private final String returnDate;
     private final int id;
     private final boolean isReturned;
+    private final Integer assigneeKey;
     private final JsonAdaptedPerson assignee;
 
     /**
@@ -28,41 +40,80 @@ public class JsonAdaptedLoan {
     public JsonAdaptedLoan(@JsonProperty("value") BigDecimal value, @JsonProperty("startDate") String startDate,
                            @JsonProperty("returnDate") String returnDate, @JsonProperty("id") int id,
                            @JsonProperty("isReturned") boolean isReturned,
+                           @JsonProperty("assigneeKey") Integer assigneeKey,
                            @JsonProperty("assignee") JsonAdaptedPerson assignee) {
         this.value = value;
         this.startDate = startDate;
         this.returnDate = returnDate;
         this.id = id;
         this.isReturned = isReturned;
+        this.assigneeKey = assigneeKey;
         this.assignee = assignee;
     }
 
     /**
-     * Converts a given {@code Loan} into this class for Jackson use.
+     * Converts a given {@code Loan} into this class for Jackson use, with its assignee embedded in full.
      */
     public JsonAdaptedLoan(Loan source) {
-        value = source.getValue();
+        this(source, null, new JsonAdaptedPerson(source.getAssignee()));
+    }
+
+    /**
+     * Converts a given {@code Loan} into this class for Jackson use, with its assignee referred to by
+     * {@code assigneeKey}.
+     */
+    public JsonAdaptedLoan(Loan source, int assigneeKey) {
+        this(source, assigneeKey, null);
+    }
+
+    private JsonAdaptedLoan(Loan source, Integer assigneeKey, JsonAdaptedPerson assignee) {
+        value = source.getValue().toBigDecimal();
         startDate = DateUtil.format(source.getStartDate());
         returnDate = DateUtil.format(source.getReturnDate());
         id = source.getId();
         isReturned = source.isReturned();
-        assignee = new JsonAdaptedPerson(source.getAssignee());
+        this.assigneeKey = assigneeKey;
+        this.assignee = assignee;
     }
 
     /**
-     * Converts this Jackson-friendly adapted loan object into the model's {@code Loan} object.
+     * Converts this Jackson-friendly adapted loan object, whose assignee must be embedded in full, into the model's
+     * {@code Loan} object.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted loan.
      */
     public Loan toModelType() throws IllegalValueException {
+        return toModelType(Collections.emptyList());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted loan object into the model's {@code Loan} object.
+     * An assignee referred to by its key is looked up in {@code persons}, so that the loan shares the person object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted loan.
+     */
+    public Loan toModelType(List<Person> persons) throws IllegalValueException {
         if (!Loan.isValidValue(value)) {
             throw new IllegalValueException(Loan.VALUE_CONSTRAINTS);
         }
         if (!Loan.isValidDates(DateUtil.parse(startDate), DateUtil.parse(returnDate))) {
             throw new IllegalValueException(Loan.DATE_CONSTRAINTS);
         }
-        return new Loan(id, value, DateUtil.parse(startDate), DateUtil.parse(returnDate), isReturned,
-                assignee.toModelType());
+        return new Loan(id, Money.of(value), DateUtil.parse(startDate), DateUtil.parse(returnDate), isReturned,
+                toModelAssignee(persons));
+    }
+
+    private Person toModelAssignee(List<Person> persons) throws IllegalValueException {
+        if (assigneeKey != null) {
+            if (assigneeKey < 0 || assigneeKey >= persons.size() || persons.get(assigneeKey) == null) {
+                throw new IllegalValueException(INVALID_ASSIGNEE_KEY_MESSAGE);
+            }
+            return persons.get(assigneeKey);
+        }
+        if (assignee == null) {
+            throw new IllegalValueException(MISSING_ASSIGNEE_MESSAGE);
+        }
+        return assignee.toModelType();
     }
 
 }
@@ -0,0 +1,146 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Loan;
+import seedu.address.model.person.Person;
+
+/**
+ * Reads and writes address books in the format of {@link JsonSerializableAddressBook} one person or loan at a time.
+ * Only the parser's small window of the document is held in memory, never the whole document. When reading, persons
+ * and loans are converted into model objects by a {@link ParallelConverter} while the rest of the file is still being
+ * parsed.
+ */
+class JsonAddressBookStream {
+
+    public static final String MESSAGE_NOT_AN_ADDRESS_BOOK = "Address book file must contain a JSON object.";
+
+    private static final String VERSION_FIELD = "version";
+    private static final String PERSONS_FIELD = "persons";
+    private static final String LOANS_FIELD = "loans";
+
+    private static final ObjectReader PERSON_READER = JsonUtil.readerFor(JsonAdaptedPerson.class);
+    private static final ObjectReader LOAN_READER = JsonUtil.readerFor(JsonAdaptedLoan.class);
+    private static final ObjectWriter PERSON_WRITER = JsonUtil.writerFor(JsonAdaptedPerson.class);
+    private static final ObjectWriter LOAN_WRITER = JsonUtil.writerFor(JsonAdaptedLoan.class);
+
+    private JsonAddressBookStream() {}
+
+    /**
+     * Reads the address book in the file at {@code filePath}, parsing it as it is streamed from the file.
+     *
+     * @throws IOException if the file cannot be read or is not valid JSON.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return read(in);
+        }
+    }
+
+    /**
+     * Reads an address book from {@code in}, leaving anything after the address book unread.
+     * {@code in} is not closed.
+     *
+     * @throws IOException if {@code in} cannot be read or does not start with valid JSON.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(InputStream in) throws IOException, IllegalValueException {
+        requireNonNull(in);
+        List<Person> personsByKey = new ArrayList<>();
+        List<Loan> loans = new ArrayList<>();
+        try (JsonParser parser = JsonUtil.createParser(in)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw JsonMappingException.from(parser, MESSAGE_NOT_AN_ADDRESS_BOOK);
+            }
+
+            // Loans can only be converted once all persons have been read. Files written by this class always list
+            // the persons first, so no loan has to be held back.
+            boolean hasReadPersons = false;
+            List<JsonAdaptedLoan> earlyLoans = new ArrayList<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (VERSION_FIELD.equals(field) && value == JsonToken.VALUE_NUMBER_INT) {
+                    JsonSerializableAddressBook.checkVersion(parser.getIntValue());
+                } else if (PERSONS_FIELD.equals(field) && value == JsonToken.START_ARRAY) {
+                    ParallelConverter<JsonAdaptedPerson, Person> personConverter =
+                            new ParallelConverter<>(JsonAdaptedPerson::toModelType);
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        personConverter.add(PERSON_READER.readValue(parser));
+                    }
+                    personsByKey.addAll(personConverter.finish());
+                    hasReadPersons = true;
+                } else if (LOANS_FIELD.equals(field) && value == JsonToken.START_ARRAY) {
+                    ParallelConverter<JsonAdaptedLoan, Loan> loanConverter =
+                            new ParallelConverter<>(loan -> loan.toModelType(personsByKey));
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        JsonAdaptedLoan loan = LOAN_READER.readValue(parser);
+                        if (hasReadPersons) {
+                            loanConverter.add(loan);
+                        } else {
+                            earlyLoans.add(loan);
+                        }
+                    }
+                    loans.addAll(loanConverter.finish());
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            loans.addAll(ParallelConverter.convertAll(earlyLoans, loan -> loan.toModelType(personsByKey)));
+        }
+        return JsonSerializableAddressBook.toAddressBook(personsByKey, loans);
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out} and flushes it. {@code out} is not closed.
+     *
+     * @throws IOException if there was an error writing to {@code out}.
+     */
+    static void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(out);
+        try (JsonGenerator generator = JsonUtil.createPrettyGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartObject();
+            generator.writeNumberField(VERSION_FIELD, JsonSerializableAddressBook.VERSION);
+            generator.writeFieldName(PERSONS_FIELD);
+            generator.writeStartArray();
+            for (Person person : addressBook.getPersonList()) {
+                PERSON_WRITER.writeValue(generator, new JsonAdaptedPerson(person));
+            }
+            generator.writeEndArray();
+            generator.writeFieldName(LOANS_FIELD);
+            generator.writeStartArray();
+            Map<Person, Integer> personKeys = JsonSerializableAddressBook.getPersonKeys(addressBook);
+            for (Loan loan : addressBook.getLoanList()) {
+                LOAN_WRITER.writeValue(generator, JsonSerializableAddressBook.toJsonAdaptedLoan(loan, personKeys));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+        out.flush();
+    }
+}
@@ -0,0 +1,126 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * The manifest of an address book saved by {@link SegmentedAddressBookStorage}, which is serializable to JSON format.
+ * It lists the segment files that currently make up the address book, with the size and checksum of each.
+ */
+class JsonSegmentManifest {
+
+    public static final int VERSION = 1;
+
+    private final int version;
+    private final int segmentSize;
+    private final long generation;
+    private final List<Entry> personSegments = new ArrayList<>();
+    private final List<Entry> loanSegments = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSegmentManifest} with the given details.
+     */
+    @JsonCreator
+    public JsonSegmentManifest(@JsonProperty("version") int version, @JsonProperty("segmentSize") int segmentSize,
+                               @JsonProperty("generation") long generation,
+                               @JsonProperty("personSegments") Collection<Entry> personSegments,
+                               @JsonProperty("loanSegments") Collection<Entry> loanSegments) {
+        this.version = version;
+        this.segmentSize = segmentSize;
+        this.generation = generation;
+        if (personSegments != null) {
+            this.personSegments.addAll(personSegments);
+        }
+        if (loanSegments != null) {
+            this.loanSegments.addAll(loanSegments);
+        }
+    }
+
+    int getVersion() {
+        return version;
+    }
+
+    int getSegmentSize() {
+        return segmentSize;
+    }
+
+    long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns the entries of the person segments by segment index.
+     */
+    TreeMap<Integer, Entry> getPersonSegments() {
+        return byIndex(personSegments);
+    }
+
+    /**
+     * Returns the entries of the loan segments by segment index.
+     */
+    TreeMap<Integer, Entry> getLoanSegments() {
+        return byIndex(loanSegments);
+    }
+
+    private static TreeMap<Integer, Entry> byIndex(List<Entry> entries) {
+        TreeMap<Integer, Entry> entriesByIndex = new TreeMap<>();
+        for (Entry entry : entries) {
+            entriesByIndex.put(entry.index, entry);
+        }
+        return entriesByIndex;
+    }
+
+    /**
+     * Returns the files of all segments listed in {@code entries}.
+     */
+    static List<String> getFiles(Map<Integer, Entry> entries) {
+        List<String> files = new ArrayList<>();
+        for (Entry entry : entries.values()) {
+            files.add(entry.file);
+        }
+        return files;
+    }
+
+    /**
+     * The file of one segment, with the size and CRC32 checksum of its content.
+     */
+    static class Entry {
+        private final int index;
+        private final String file;
+        private final int size;
+        private final long checksum;
+
+        /**
+         * Constructs an {@code Entry} with the given details.
+         */
+        @JsonCreator
+        public Entry(@JsonProperty("index") int index, @JsonProperty("file") String file,
+                     @JsonProperty("size") int size, @JsonProperty("checksum") long checksum) {
+            this.index = index;
+            this.file = file;
+            this.size = size;
+            this.checksum = checksum;
+        }
+
+        int getIndex() {
+            return index;
+        }
+
+        String getFile() {
+            return file;
+        }
+
+        /**
+         * Returns true if {@code content} has the size and checksum of this segment.
+         */
+        boolean matches(byte[] content, long contentChecksum) {
+            return size == content.length && checksum == contentChecksum;
+        }
+    }
+}
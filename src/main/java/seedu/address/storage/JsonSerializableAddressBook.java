@@ -1,7 +1,9 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -13,28 +15,43 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Loan;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicateLoanException;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
+ * Since version 2 of the format, loans refer to their assignee by its position in the list of persons instead of
+ * embedding it. Files of version 1, which have no version field, are still read.
  */
 @JsonRootName(value = "addressbook")
 class JsonSerializableAddressBook {
 
+    public static final int VERSION = 2;
+
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
     public static final String MESSAGE_DUPLICATE_LOAN = "Loans list contains duplicate loan id(s).";
     public static final String MESSAGE_ORPHAN_LOAN = "Loans list contains loan(s) with no associated person.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Address book file is of version %d, but only versions"
+            + " up to " + VERSION + " can be read.";
 
+    private final int version;
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
     private final List<JsonAdaptedLoan> loans = new ArrayList<>();
 
     /**
-     * Constructs a {@code JsonSerializableAddressBook} with the given persons.
+     * Constructs a {@code JsonSerializableAddressBook} with the given persons and loans.
      */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons,
+    public JsonSerializableAddressBook(@JsonProperty("version") Integer version,
+                                       @JsonProperty("persons") List<JsonAdaptedPerson> persons,
                                        @JsonProperty("loans") List<JsonAdaptedLoan> loans) {
-        this.persons.addAll(persons);
-        this.loans.addAll(loans);
+        this.version = version == null ? 1 : version;
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+        if (loans != null) {
+            this.loans.addAll(loans);
+        }
     }
 
     /**
@@ -43,33 +60,81 @@ class JsonSerializableAddressBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
+        version = VERSION;
         persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
-        loans.addAll(source.getLoanList().stream().map(JsonAdaptedLoan::new).collect(Collectors.toList()));
+        Map<Person, Integer> personKeys = getPersonKeys(source);
+        for (Loan loan : source.getLoanList()) {
+            loans.add(toJsonAdaptedLoan(loan, personKeys));
+        }
     }
 
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * The persons, and then the loans, are converted in parallel.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
+        checkVersion(version);
+        List<Person> personsByKey = ParallelConverter.convertAll(persons, JsonAdaptedPerson::toModelType);
+        List<Loan> modelLoans = ParallelConverter.convertAll(loans, loan -> loan.toModelType(personsByKey));
+        return toAddressBook(personsByKey, modelLoans);
+    }
+
+    /**
+     * Returns the key of each person of {@code addressBook}, which is its position in the list of persons.
+     */
+    static Map<Person, Integer> getPersonKeys(ReadOnlyAddressBook addressBook) {
+        Map<Person, Integer> keys = new HashMap<>();
+        for (Person person : addressBook.getPersonList()) {
+            keys.put(person, keys.size());
+        }
+        return keys;
+    }
+
+    /**
+     * Converts {@code loan} for Jackson use, referring to its assignee by its key in {@code personKeys}.
+     * The assignee is embedded in full if it has no key.
+     */
+    static JsonAdaptedLoan toJsonAdaptedLoan(Loan loan, Map<Person, Integer> personKeys) {
+        Integer assigneeKey = personKeys.get(loan.getAssignee());
+        return assigneeKey == null ? new JsonAdaptedLoan(loan) : new JsonAdaptedLoan(loan, assigneeKey);
+    }
+
+    /**
+     * Checks that files of the given version of the format can be read.
+     *
+     * @throws IllegalValueException if the version is newer than {@link #VERSION}.
+     */
+    static void checkVersion(int version) throws IllegalValueException {
+        if (version > VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+    }
+
+    /**
+     * Returns an address book of {@code persons} and {@code loans} read from a file.
+     * Each list is added in bulk, so the indexes of the address book are built once.
+     *
+     * @throws IllegalValueException if there are duplicate persons or loans, or loans whose assignee is not one of
+     *     {@code persons}.
+     */
+    static AddressBook toAddressBook(List<Person> persons, List<Loan> loans) throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
         }
-        for (JsonAdaptedLoan jsonAdaptedLoan : loans) {
-            Loan loan = jsonAdaptedLoan.toModelType();
-            if (addressBook.hasLoan(loan)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_LOAN);
-            }
+        for (Loan loan : loans) {
             if (!addressBook.hasExactPerson(loan.getAssignee())) {
                 throw new IllegalValueException(MESSAGE_ORPHAN_LOAN);
             }
-            addressBook.addLoan(loan);
+        }
+        try {
+            addressBook.setLoans(loans);
+        } catch (DuplicateLoanException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_LOAN);
         }
         return addressBook;
     }
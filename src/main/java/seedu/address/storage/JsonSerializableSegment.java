@@ -0,0 +1,55 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * A segment of an address book saved by {@link SegmentedAddressBookStorage}, which is serializable to JSON format.
+ * A segment either holds persons, each with its position key, or loans, which refer to their assignee by its
+ * position key.
+ */
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+class JsonSerializableSegment {
+
+    private final List<Integer> keys = new ArrayList<>();
+    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+    private final List<JsonAdaptedLoan> loans = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableSegment} with the given persons, their keys, and loans.
+     */
+    @JsonCreator
+    public JsonSerializableSegment(@JsonProperty("keys") List<Integer> keys,
+                                   @JsonProperty("persons") List<JsonAdaptedPerson> persons,
+                                   @JsonProperty("loans") List<JsonAdaptedLoan> loans) {
+        if (keys != null) {
+            this.keys.addAll(keys);
+        }
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+        if (loans != null) {
+            this.loans.addAll(loans);
+        }
+    }
+
+    List<Integer> getKeys() {
+        return keys;
+    }
+
+    List<JsonAdaptedPerson> getPersons() {
+        return persons;
+    }
+
+    List<JsonAdaptedLoan> getLoans() {
+        return loans;
+    }
+
+    boolean isEmpty() {
+        return persons.isEmpty() && loans.isEmpty();
+    }
+}
@@ -0,0 +1,132 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Converts adapted objects read from a file into model objects on the common fork-join pool.
+ * Sources are handed over one at a time, as they are read, and are converted in chunks while later ones are still
+ * being read. The results are returned in the order the sources were handed over.
+ *
+ * @param <S> the type of the adapted objects.
+ * @param <T> the type of the model objects.
+ */
+class ParallelConverter<S, T> {
+
+    static final int CHUNK_SIZE = 512;
+
+    private final Converter<? super S, ? extends T> converter;
+    private final List<ForkJoinTask<List<T>>> convertedChunks = new ArrayList<>();
+    private List<S> pendingChunk = new ArrayList<>(CHUNK_SIZE);
+
+    ParallelConverter(Converter<? super S, ? extends T> converter) {
+        requireNonNull(converter);
+        this.converter = converter;
+    }
+
+    /**
+     * Returns {@code sources} converted in parallel, in the same order.
+     *
+     * @throws IllegalValueException if any source cannot be converted.
+     */
+    static <S, T> List<T> convertAll(List<S> sources, Converter<? super S, ? extends T> converter)
+            throws IllegalValueException {
+        ParallelConverter<S, T> parallelConverter = new ParallelConverter<>(converter);
+        for (S source : sources) {
+            parallelConverter.add(source);
+        }
+        return parallelConverter.finish();
+    }
+
+    /**
+     * Hands {@code source} over to be converted.
+     */
+    void add(S source) {
+        requireNonNull(source);
+        pendingChunk.add(source);
+        if (pendingChunk.size() == CHUNK_SIZE) {
+            List<S> chunk = pendingChunk;
+            convertedChunks.add(ForkJoinPool.commonPool().submit(() -> convert(chunk)));
+            pendingChunk = new ArrayList<>(CHUNK_SIZE);
+        }
+    }
+
+    /**
+     * Waits until all sources handed over have been converted and returns the results in order.
+     * The last chunk, which is only partly filled, is converted on the calling thread in the meantime, so sources
+     * that fit into a single chunk are converted without involving other threads at all.
+     *
+     * @throws IllegalValueException if any source cannot be converted. If several cannot, the exception is the one
+     *     of the first of them in the chunk that was handed over first.
+     */
+    List<T> finish() throws IllegalValueException {
+        List<S> lastChunk = pendingChunk;
+        pendingChunk = new ArrayList<>();
+        List<T> convertedLastChunk = null;
+        IllegalValueException lastChunkFailure = null;
+        try {
+            convertedLastChunk = convert(lastChunk);
+        } catch (IllegalValueException e) {
+            lastChunkFailure = e;
+        }
+
+        List<T> results = new ArrayList<>(convertedChunks.size() * CHUNK_SIZE + lastChunk.size());
+        try {
+            for (ForkJoinTask<List<T>> chunk : convertedChunks) {
+                results.addAll(join(chunk));
+            }
+        } finally {
+            // after a failure, the chunks not yet joined are of no use
+            convertedChunks.forEach(chunk -> chunk.cancel(false));
+            convertedChunks.clear();
+        }
+        if (lastChunkFailure != null) {
+            throw lastChunkFailure;
+        }
+        results.addAll(convertedLastChunk);
+        return results;
+    }
+
+    private List<T> convert(List<S> chunk) throws IllegalValueException {
+        List<T> converted = new ArrayList<>(chunk.size());
+        for (S source : chunk) {
+            converted.add(converter.convert(source));
+        }
+        return converted;
+    }
+
+    private static <T> List<T> join(ForkJoinTask<List<T>> chunk) throws IllegalValueException {
+        try {
+            return chunk.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while converting", e);
+        } catch (ExecutionException e) {
+            // the pool wraps checked exceptions thrown by a chunk
+            for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+                if (cause instanceof IllegalValueException) {
+                    throw (IllegalValueException) cause;
+                }
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new IllegalStateException("Failed to convert", e.getCause());
+        }
+    }
+
+    /**
+     * Converts one adapted object into its model object.
+     */
+    @FunctionalInterface
+    interface Converter<S, T> {
+        T convert(S source) throws IllegalValueException;
+    }
+}
@@ -0,0 +1,606 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.ByteBufferInputStream;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.PersistentIntMap;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Loan;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as segments on the hard disk.
+ * <p>
+ * Persons are split into segments by their position key, and loans by their id, with {@value #SEGMENT_SIZE} keys or
+ * ids to a segment. Each segment is a JSON file in a directory beside the JSON data file, and a manifest lists the
+ * segment files that make up the address book. Loans refer to their assignee by its position key, which editing the
+ * assignee does not change.
+ * <p>
+ * A save only writes the segments that changed since the previous save, each to a new file, and commits them by
+ * replacing the manifest atomically. Files that neither the manifest nor any of its backups list are deleted
+ * afterwards, so a crash during a save leaves the previous version intact. Between two snapshots of the same address
+ * book, the segments that changed are found in time proportional to the number of changes. Otherwise every segment is
+ * encoded in memory, and only those that differ from the files listed in the manifest are written.
+ * <p>
+ * Persons keep the position keys they were read with: the keys the address book gives them on loading, which follow
+ * list order from zero, are mapped back to the keys read, and persons added later get keys after the last key read.
+ * So the first save after a read only writes the segments that changed since.
+ * <p>
+ * A number of earlier manifests can be kept as backups, together with the segment files they list, and are read
+ * instead of a manifest that cannot be loaded. Like {@link BinaryAddressBookStorage}, the JSON data file is read
+ * instead if it is newer than the manifest.
+ */
+public class SegmentedAddressBookStorage implements AddressBookStorage {
+
+    public static final String SEGMENT_DIRECTORY_SUFFIX = ".segments";
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Address book manifest is of version %d, but only "
+            + "versions up to " + JsonSegmentManifest.VERSION + " can be read.";
+    public static final String MESSAGE_DAMAGED_SEGMENT = "Segment file %s is damaged.";
+
+    static final int SEGMENT_SIZE = 256;
+
+    private static final Logger logger = LogsCenter.getLogger(SegmentedAddressBookStorage.class);
+    private static final ObjectReader MANIFEST_READER = JsonUtil.readerFor(JsonSegmentManifest.class);
+    private static final ObjectWriter MANIFEST_WRITER = JsonUtil.writerFor(JsonSegmentManifest.class);
+    private static final ObjectReader SEGMENT_READER = JsonUtil.readerFor(JsonSerializableSegment.class);
+    private static final ObjectWriter SEGMENT_WRITER = JsonUtil.writerFor(JsonSerializableSegment.class);
+    private static final String PERSONS_PREFIX = "persons-";
+    private static final String LOANS_PREFIX = "loans-";
+
+    private final Path filePath;
+    private final Path jsonFilePath;
+    private final int backupCount;
+
+    // What the manifest at savedFilePath lists, as of the last read or save
+    private Path savedFilePath;
+    private long generation;
+    private TreeMap<Integer, JsonSegmentManifest.Entry> personSegments = new TreeMap<>();
+    private TreeMap<Integer, JsonSegmentManifest.Entry> loanSegments = new TreeMap<>();
+    // The snapshot saved last, if the segments were written from it, and the position keys of its persons by name
+    private AddressBookSnapshot savedSnapshot;
+    private final Map<Name, Integer> keysByName = new HashMap<>();
+    private boolean hasUnlistedFiles;
+    // Whether the segments recorded were read from a backup, so the manifest at savedFilePath lists others
+    private boolean isBackupRead;
+    // The saved position keys of the persons last read, in list order, and the first key after them
+    private int[] readKeys = new int[0];
+    private int firstUnreadKey;
+
+    /**
+     * Constructs a {@code SegmentedAddressBookStorage} that keeps its segments in a directory beside the JSON data
+     * file at {@code jsonFilePath}.
+     */
+    public SegmentedAddressBookStorage(Path jsonFilePath) {
+        this(jsonFilePath, 0);
+    }
+
+    /**
+     * Constructs a {@code SegmentedAddressBookStorage} that keeps its segments in a directory beside the JSON data
+     * file at {@code jsonFilePath}, together with up to {@code backupCount} earlier manifests.
+     */
+    public SegmentedAddressBookStorage(Path jsonFilePath, int backupCount) {
+        requireNonNull(jsonFilePath);
+        this.jsonFilePath = jsonFilePath;
+        this.filePath = getManifestPath(jsonFilePath);
+        this.backupCount = backupCount;
+    }
+
+    /**
+     * Returns the path of the manifest of the segments kept beside the JSON data file at {@code jsonFilePath}.
+     */
+    public static Path getManifestPath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        String baseName = fileName.endsWith(".json") ? fileName.substring(0, fileName.length() - 5) : fileName;
+        return jsonFilePath.resolveSibling(baseName + SEGMENT_DIRECTORY_SUFFIX).resolve(MANIFEST_FILE_NAME);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the address book listed in the manifest, or in the JSON data file if that is newer.
+     * If the manifest or a segment it lists cannot be loaded, the newest backup of the manifest that can be is read.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        try {
+            if (Files.exists(jsonFilePath) && (!Files.exists(filePath)
+                    || Files.getLastModifiedTime(jsonFilePath).compareTo(Files.getLastModifiedTime(filePath)) > 0)) {
+                logger.info("Importing address book from " + jsonFilePath);
+                return new JsonAddressBookStorage(jsonFilePath).readAddressBook();
+            }
+        } catch (IOException e) {
+            logger.warning("Error comparing " + jsonFilePath + " with " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        return DataFileGenerations.readNewest(filePath, backupCount, path -> read(path, filePath));
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}, but only reads the segments listed in the manifest at {@code filePath}.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        return read(filePath, filePath);
+    }
+
+    /**
+     * Returns the address book listed in the manifest at {@code manifestPath}, whose segments are then taken to be
+     * those of the manifest at {@code savedPath}, which the next save replaces.
+     */
+    private synchronized Optional<ReadOnlyAddressBook> read(Path manifestPath, Path savedPath)
+            throws DataLoadingException {
+        if (!Files.exists(manifestPath)) {
+            return Optional.empty();
+        }
+
+        try {
+            JsonSegmentManifest manifest = readManifest(manifestPath);
+            List<Integer> keys = new ArrayList<>();
+            AddressBook addressBook = readSegments(manifestPath, manifest, keys);
+            setSaved(savedPath, manifest);
+            if (manifest.getSegmentSize() == SEGMENT_SIZE) {
+                setReadKeys(keys);
+            }
+            if (!manifestPath.equals(savedPath)) {
+                // the manifest replaced may list files of later generations, which new files must not overwrite
+                generation = Math.max(generation, getLatestFileGeneration(manifestPath.getParent()));
+                isBackupRead = true;
+            }
+            return Optional.of(addressBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from " + manifestPath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + manifestPath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the segments that differ from those listed in the manifest at {@code filePath} are written.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(savedFilePath)) {
+            setSaved(filePath, readManifestForSave(filePath));
+        }
+        AddressBookSnapshot snapshot = addressBook instanceof AddressBookSnapshot
+                ? (AddressBookSnapshot) addressBook
+                : null;
+        try {
+            saveSegments(addressBook, snapshot, filePath);
+        } catch (IOException | RuntimeException e) {
+            // what changed since the saved snapshot is unknown now, so the next save compares every segment
+            savedSnapshot = null;
+            hasUnlistedFiles = true;
+            throw e;
+        }
+    }
+
+    private void saveSegments(ReadOnlyAddressBook addressBook, AddressBookSnapshot snapshot, Path filePath)
+            throws IOException {
+        PersistentIntMap<Person> persons;
+        PersistentIntMap<Loan> loans;
+        if (snapshot != null) {
+            persons = snapshot.getPersonsByPosition();
+            loans = snapshot.getLoanSnapshot().getFrozenLoans();
+        } else {
+            PersistentIntMap.Builder<Person> personsByKey = PersistentIntMap.builder();
+            List<Person> personList = addressBook.getPersonList();
+            for (int key = 0; key < personList.size(); key++) {
+                personsByKey.put(key, personList.get(key));
+            }
+            persons = personsByKey.build();
+            List<Loan> loansById = new ArrayList<>(addressBook.getLoanList());
+            loansById.sort(Comparator.comparingInt(Loan::getId));
+            PersistentIntMap.Builder<Loan> loansByIdMap = PersistentIntMap.builder();
+            for (Loan loan : loansById) {
+                loansByIdMap.put(loan.getId(), loan);
+            }
+            loans = loansByIdMap.build();
+        }
+
+        Set<Integer> changedPersonSegments = new TreeSet<>();
+        Set<Integer> changedLoanSegments = new TreeSet<>();
+        if (savedSnapshot != null && snapshot != null) {
+            findChangedSegments(snapshot, changedPersonSegments, changedLoanSegments);
+        } else {
+            keysByName.clear();
+            persons.forEach((key, person) -> {
+                int savedKey = toSavedKey(key);
+                keysByName.put(person.getName(), savedKey);
+                changedPersonSegments.add(savedKey / SEGMENT_SIZE);
+            });
+            changedPersonSegments.addAll(personSegments.keySet());
+            loans.forEach((id, loan) -> changedLoanSegments.add(id / SEGMENT_SIZE));
+            changedLoanSegments.addAll(loanSegments.keySet());
+        }
+
+        Path directory = filePath.getParent();
+        long nextGeneration = generation + 1;
+        TreeMap<Integer, JsonSegmentManifest.Entry> nextPersonSegments = new TreeMap<>(personSegments);
+        TreeMap<Integer, JsonSegmentManifest.Entry> nextLoanSegments = new TreeMap<>(loanSegments);
+        List<String> supersededFiles = new ArrayList<>();
+        Files.createDirectories(directory);
+
+        for (int index : changedPersonSegments) {
+            List<Integer> keys = new ArrayList<>();
+            List<JsonAdaptedPerson> segmentPersons = new ArrayList<>();
+            for (int key = index * SEGMENT_SIZE; key < (index + 1) * SEGMENT_SIZE; key++) {
+                int addressBookKey = toAddressBookKey(key);
+                Person person = addressBookKey < 0 ? null : persons.get(addressBookKey);
+                if (person != null) {
+                    keys.add(key);
+                    segmentPersons.add(new JsonAdaptedPerson(person));
+                }
+            }
+            writeSegment(directory, PERSONS_PREFIX, index, new JsonSerializableSegment(keys, segmentPersons, null),
+                    nextGeneration, nextPersonSegments, supersededFiles);
+        }
+        for (int index : changedLoanSegments) {
+            List<JsonAdaptedLoan> segmentLoans = new ArrayList<>();
+            for (int id = index * SEGMENT_SIZE; id < (index + 1) * SEGMENT_SIZE; id++) {
+                Loan loan = loans.get(id);
+                if (loan != null) {
+                    Integer assigneeKey = keysByName.get(loan.getAssignee().getName());
+                    assert assigneeKey != null : "Loans must be assigned to a person of the address book";
+                    segmentLoans.add(new JsonAdaptedLoan(loan, assigneeKey));
+                }
+            }
+            writeSegment(directory, LOANS_PREFIX, index, new JsonSerializableSegment(null, null, segmentLoans),
+                    nextGeneration, nextLoanSegments, supersededFiles);
+        }
+
+        if (nextPersonSegments.equals(personSegments) && nextLoanSegments.equals(loanSegments)
+                && Files.exists(filePath) && !isBackupRead) {
+            logger.fine("No segment changed, not saving");
+            savedSnapshot = snapshot;
+            return;
+        }
+        // the files of the oldest backup are no longer needed once the manifest written pushes it out
+        Set<String> evictedFiles = backupCount > 0
+                ? getListedFiles(FileUtil.getBackupPath(filePath, backupCount))
+                : Collections.emptySet();
+        writeManifest(filePath, new JsonSegmentManifest(JsonSegmentManifest.VERSION, SEGMENT_SIZE, nextGeneration,
+                nextPersonSegments.values(), nextLoanSegments.values()), backupCount);
+        logger.fine("Saved " + (changedPersonSegments.size() + changedLoanSegments.size()) + " changed segments");
+        generation = nextGeneration;
+        isBackupRead = false;
+        personSegments = nextPersonSegments;
+        loanSegments = nextLoanSegments;
+        savedSnapshot = snapshot;
+
+        Set<String> droppedFiles = new HashSet<>(supersededFiles);
+        droppedFiles.addAll(evictedFiles);
+        if (backupCount > 0 && !droppedFiles.isEmpty()) {
+            droppedFiles.removeAll(getRetainedFiles(filePath));
+        }
+        for (String file : droppedFiles) {
+            deleteQuietly(directory.resolve(file));
+        }
+        if (hasUnlistedFiles) {
+            deleteUnlistedFiles(filePath);
+            hasUnlistedFiles = false;
+        }
+    }
+
+    /**
+     * Returns the key under which the person with position key {@code key} in the address book is saved.
+     */
+    private int toSavedKey(int key) {
+        return key < readKeys.length ? readKeys[key] : firstUnreadKey + key - readKeys.length;
+    }
+
+    /**
+     * Returns the position key in the address book of the person saved under {@code savedKey}, or -1 if no person
+     * of the address book can be saved under it.
+     */
+    private int toAddressBookKey(int savedKey) {
+        if (savedKey >= firstUnreadKey) {
+            return readKeys.length + savedKey - firstUnreadKey;
+        }
+        int index = Arrays.binarySearch(readKeys, savedKey);
+        return index >= 0 ? index : -1;
+    }
+
+    /**
+     * Records that the persons last read were saved under {@code keys}, in list order.
+     */
+    private void setReadKeys(List<Integer> keys) {
+        readKeys = keys.stream().mapToInt(Integer::intValue).toArray();
+        firstUnreadKey = keys.isEmpty() ? 0 : keys.get(keys.size() - 1) + 1;
+    }
+
+    /**
+     * Adds the indexes of the segments that differ between the saved snapshot and {@code snapshot} to
+     * {@code changedPersonSegments} and {@code changedLoanSegments}, and updates the position keys of the persons.
+     */
+    private void findChangedSegments(AddressBookSnapshot snapshot, Set<Integer> changedPersonSegments,
+            Set<Integer> changedLoanSegments) {
+        Map<Name, Integer> previousKeys = new HashMap<>();
+        savedSnapshot.getPersonsByPosition().forEachChange(snapshot.getPersonsByPosition(),
+                (key, oldPerson, newPerson) -> {
+                    int savedKey = toSavedKey(key);
+                    changedPersonSegments.add(savedKey / SEGMENT_SIZE);
+                    if (oldPerson != null) {
+                        previousKeys.put(oldPerson.getName(), savedKey);
+                        keysByName.remove(oldPerson.getName(), savedKey);
+                    }
+                    if (newPerson != null) {
+                        keysByName.put(newPerson.getName(), savedKey);
+                    }
+                });
+        savedSnapshot.getLoanSnapshot().getFrozenLoans().forEachChange(snapshot.getLoanSnapshot().getFrozenLoans(),
+                (id, oldLoan, newLoan) -> {
+                    // loans refer to their assignee by key, so a loan whose assignee was only edited is unchanged
+                    if (oldLoan == null || newLoan == null || !oldLoan.hasSameDetails(newLoan)) {
+                        changedLoanSegments.add(id / SEGMENT_SIZE);
+                    }
+                });
+
+        // a person that kept its name but moved to another key may still have loans that did not change
+        boolean hasMovedPerson = previousKeys.entrySet().stream().anyMatch(entry ->
+                keysByName.containsKey(entry.getKey()) && !keysByName.get(entry.getKey()).equals(entry.getValue()));
+        if (hasMovedPerson) {
+            snapshot.getLoanSnapshot().getFrozenLoans()
+                    .forEach((id, loan) -> changedLoanSegments.add(id / SEGMENT_SIZE));
+        }
+    }
+
+    /**
+     * Writes {@code segment} to a new file of the given generation, unless it is the same as the one listed in
+     * {@code entries}, and lists the new file in {@code entries} instead.
+     * An empty segment is removed from {@code entries} instead. Files no longer listed are added to
+     * {@code supersededFiles}.
+     */
+    private static void writeSegment(Path directory, String prefix, int index, JsonSerializableSegment segment,
+            long generation, Map<Integer, JsonSegmentManifest.Entry> entries, List<String> supersededFiles)
+            throws IOException {
+        JsonSegmentManifest.Entry previous = entries.get(index);
+        if (segment.isEmpty()) {
+            if (previous != null) {
+                entries.remove(index);
+                supersededFiles.add(previous.getFile());
+            }
+            return;
+        }
+
+        byte[] content = SEGMENT_WRITER.writeValueAsBytes(segment);
+        CRC32 crc = new CRC32();
+        crc.update(content, 0, content.length);
+        if (previous != null && previous.matches(content, crc.getValue())) {
+            return;
+        }
+        String file = prefix + index + "-" + generation + ".json";
+        FileUtil.writeDurably(directory.resolve(file), content);
+        entries.put(index, new JsonSegmentManifest.Entry(index, file, content.length, crc.getValue()));
+        if (previous != null) {
+            supersededFiles.add(previous.getFile());
+        }
+    }
+
+    /**
+     * Returns the address book made up of the segments listed in {@code manifest}, which is at {@code filePath}, and
+     * adds the position keys of its persons to {@code keys}, in list order.
+     */
+    private static AddressBook readSegments(Path filePath, JsonSegmentManifest manifest, List<Integer> keys)
+            throws IOException, IllegalValueException {
+        Path directory = filePath.getParent();
+        int segmentSize = manifest.getSegmentSize();
+        List<JsonAdaptedPerson> adaptedPersons = new ArrayList<>();
+        for (JsonSegmentManifest.Entry entry : manifest.getPersonSegments().values()) {
+            JsonSerializableSegment segment = readSegment(directory, entry);
+            if (segment.getKeys().size() != segment.getPersons().size()) {
+                throw new IllegalValueException(String.format(MESSAGE_DAMAGED_SEGMENT, entry.getFile()));
+            }
+            for (int key : segment.getKeys()) {
+                boolean isAscending = keys.isEmpty() || key > keys.get(keys.size() - 1);
+                if (key / segmentSize != entry.getIndex() || !isAscending) {
+                    throw new IllegalValueException(String.format(MESSAGE_DAMAGED_SEGMENT, entry.getFile()));
+                }
+                keys.add(key);
+            }
+            adaptedPersons.addAll(segment.getPersons());
+        }
+        List<JsonAdaptedLoan> adaptedLoans = new ArrayList<>();
+        for (JsonSegmentManifest.Entry entry : manifest.getLoanSegments().values()) {
+            adaptedLoans.addAll(readSegment(directory, entry).getLoans());
+        }
+
+        List<Person> persons = ParallelConverter.convertAll(adaptedPersons, JsonAdaptedPerson::toModelType);
+        List<Person> personsByKey = new ArrayList<>(
+                Collections.nCopies(keys.isEmpty() ? 0 : keys.get(keys.size() - 1) + 1, null));
+        for (int i = 0; i < keys.size(); i++) {
+            personsByKey.set(keys.get(i), persons.get(i));
+        }
+        List<Loan> loans = ParallelConverter.convertAll(adaptedLoans, loan -> loan.toModelType(personsByKey));
+        return JsonSerializableAddressBook.toAddressBook(persons, loans);
+    }
+
+    private static JsonSerializableSegment readSegment(Path directory, JsonSegmentManifest.Entry entry)
+            throws IOException, IllegalValueException {
+        ByteBuffer content = FileUtil.readToBuffer(directory.resolve(entry.getFile()));
+        byte[] bytes = new byte[content.remaining()];
+        content.duplicate().get(bytes);
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bytes.length);
+        if (!entry.matches(bytes, crc.getValue())) {
+            throw new IllegalValueException(String.format(MESSAGE_DAMAGED_SEGMENT, entry.getFile()));
+        }
+        return SEGMENT_READER.readValue(new ByteBufferInputStream(content));
+    }
+
+    private static JsonSegmentManifest readManifest(Path filePath) throws IOException, IllegalValueException {
+        JsonSegmentManifest manifest = MANIFEST_READER.readValue(new ByteBufferInputStream(
+                FileUtil.readToBuffer(filePath)));
+        if (manifest.getVersion() > JsonSegmentManifest.VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, manifest.getVersion()));
+        }
+        return manifest;
+    }
+
+    /**
+     * Returns the manifest at {@code filePath} to save over, or an empty manifest if there is none that can be
+     * kept, in which case all segments are written anew.
+     */
+    private static JsonSegmentManifest readManifestForSave(Path filePath) {
+        JsonSegmentManifest empty = new JsonSegmentManifest(JsonSegmentManifest.VERSION, SEGMENT_SIZE, 0, null, null);
+        if (!Files.exists(filePath)) {
+            return empty;
+        }
+        try {
+            JsonSegmentManifest manifest = readManifest(filePath);
+            return manifest.getSegmentSize() == SEGMENT_SIZE ? manifest : empty;
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Replacing unreadable manifest " + filePath + ": " + e);
+            return empty;
+        }
+    }
+
+    /**
+     * Records that {@code manifest}, which is at {@code filePath}, lists the segments on disk.
+     */
+    private void setSaved(Path filePath, JsonSegmentManifest manifest) {
+        savedFilePath = filePath;
+        generation = manifest.getGeneration();
+        boolean isSameSegmentSize = manifest.getSegmentSize() == SEGMENT_SIZE;
+        personSegments = isSameSegmentSize ? manifest.getPersonSegments() : new TreeMap<>();
+        loanSegments = isSameSegmentSize ? manifest.getLoanSegments() : new TreeMap<>();
+        savedSnapshot = null;
+        keysByName.clear();
+        setReadKeys(Collections.emptyList());
+        isBackupRead = false;
+        // files of saves that failed, or were cut short, before their manifest was written
+        hasUnlistedFiles = true;
+    }
+
+    private static void writeManifest(Path filePath, JsonSegmentManifest manifest, int backupCount)
+            throws IOException {
+        byte[] content = MANIFEST_WRITER.writeValueAsBytes(manifest);
+        FileUtil.writeAtomically(filePath, backupCount, out -> out.write(content));
+    }
+
+    /**
+     * Returns the segment files listed by the manifest at {@code filePath} as last saved, and by its backups.
+     */
+    private Set<String> getRetainedFiles(Path filePath) {
+        Set<String> files = new HashSet<>(JsonSegmentManifest.getFiles(personSegments));
+        files.addAll(JsonSegmentManifest.getFiles(loanSegments));
+        for (int generation = 1; generation <= backupCount; generation++) {
+            files.addAll(getListedFiles(FileUtil.getBackupPath(filePath, generation)));
+        }
+        return files;
+    }
+
+    /**
+     * Returns the segment files listed by the manifest at {@code manifestPath}, or none if it cannot be read.
+     */
+    private static Set<String> getListedFiles(Path manifestPath) {
+        Set<String> files = new HashSet<>();
+        if (!Files.exists(manifestPath)) {
+            return files;
+        }
+        try {
+            JsonSegmentManifest manifest = readManifest(manifestPath);
+            files.addAll(JsonSegmentManifest.getFiles(manifest.getPersonSegments()));
+            files.addAll(JsonSegmentManifest.getFiles(manifest.getLoanSegments()));
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Error reading backup manifest " + manifestPath + ": " + e);
+        }
+        return files;
+    }
+
+    /**
+     * Deletes the segment files beside the manifest at {@code filePath} that neither it nor its backups list.
+     */
+    private void deleteUnlistedFiles(Path filePath) {
+        Path directory = filePath.getParent();
+        Set<String> retainedFiles = getRetainedFiles(filePath);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "{persons,loans}-*.json")) {
+            for (Path file : files) {
+                if (!retainedFiles.contains(file.getFileName().toString())) {
+                    deleteQuietly(file);
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Error listing segments in " + directory + ": " + e);
+        }
+    }
+
+    /**
+     * Returns the latest generation of the segment files in {@code directory}, or 0 if there are none.
+     */
+    private static long getLatestFileGeneration(Path directory) throws IOException {
+        long latest = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "{persons,loans}-*.json")) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                String generation = name.substring(name.lastIndexOf('-') + 1, name.length() - ".json".length());
+                try {
+                    latest = Math.max(latest, Long.parseLong(generation));
+                } catch (NumberFormatException e) {
+                    // not a segment file written by this class
+                }
+            }
+        }
+        return latest;
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warning("Error deleting " + file + ": " + e);
+        }
+    }
+}
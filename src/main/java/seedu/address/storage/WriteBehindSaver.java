@@ -0,0 +1,116 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Saves address books on a single background writer thread, so that callers do not wait for the file to be written.
+ * Only the latest address book handed over is written. Every address book handed over while a write is pending
+ * replaces the pending one, so a burst of changes results in a single write. A change waits at most
+ * {@code maxStalenessMillis}, plus the time taken by an earlier write, before it is written.
+ * The address books handed over must not change afterwards, as they are read on the writer thread.
+ */
+public class WriteBehindSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindSaver.class);
+
+    private final AddressBookStorage storage;
+    private final long maxStalenessMillis;
+    private final ScheduledExecutorService executor;
+    private ReadOnlyAddressBook pendingAddressBook;
+    private boolean isWriteScheduled;
+    private volatile Consumer<IOException> failureHandler = e -> { };
+
+    /**
+     * Constructs a {@code WriteBehindSaver} that writes to {@code storage} at most {@code maxStalenessMillis}
+     * after a change.
+     */
+    public WriteBehindSaver(AddressBookStorage storage, long maxStalenessMillis) {
+        requireNonNull(storage);
+        assert maxStalenessMillis >= 0;
+        this.storage = storage;
+        this.maxStalenessMillis = maxStalenessMillis;
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sets the handler that is told about writes that failed. It is called on the writer thread.
+     */
+    public void setFailureHandler(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Hands {@code addressBook} over to be written, replacing any address book that is still waiting to be written.
+     */
+    public synchronized void save(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        pendingAddressBook = addressBook;
+        if (!isWriteScheduled && !executor.isShutdown()) {
+            isWriteScheduled = true;
+            executor.schedule(this::writePending, maxStalenessMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Writes the address book waiting to be written, if any, and waits until it has been written.
+     */
+    public void flush() {
+        try {
+            executor.submit(this::writePending).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.warning("Failed to flush address book: " + StringUtil.getDetails(e.getCause()));
+        }
+    }
+
+    /**
+     * Writes the address book waiting to be written and stops the writer thread.
+     * Address books handed over afterwards are not written.
+     */
+    public void stop() {
+        if (executor.isShutdown()) {
+            return;
+        }
+        flush();
+        synchronized (this) {
+            executor.shutdownNow();
+        }
+    }
+
+    private void writePending() {
+        ReadOnlyAddressBook addressBook;
+        synchronized (this) {
+            addressBook = pendingAddressBook;
+            pendingAddressBook = null;
+            isWriteScheduled = false;
+        }
+        if (addressBook == null) {
+            return;
+        }
+
+        try {
+            storage.saveAddressBook(addressBook);
+        } catch (IOException e) {
+            logger.warning("Failed to save address book: " + StringUtil.getDetails(e));
+            failureHandler.accept(e);
+        }
+    }
+}
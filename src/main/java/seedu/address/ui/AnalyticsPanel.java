@@ -1,7 +1,5 @@
 package seedu.address.ui;
 
-import java.math.BigDecimal;
-
 import javafx.beans.property.ObjectProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -79,7 +77,7 @@ public class AnalyticsPanel extends UiPart<Region> {
     }
 
     private void updateImpact(DashboardData data) {
-        if (data.getMaxLoanValue().compareTo(BigDecimal.ZERO) == 0) {
+        if (data.getMaxLoanValue().signum() == 0) {
             impactIndex.setText("No loans to analyze");
             impactChart.setVisible(false);
             return;
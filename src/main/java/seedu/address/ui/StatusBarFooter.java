@@ -3,26 +3,60 @@ package seedu.address.ui;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import javafx.beans.value.ObservableValue;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
+import seedu.address.model.LoadProgress;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
  */
 public class StatusBarFooter extends UiPart<Region> {
 
+    public static final String READING_STATUS = "Reading data file...";
+    public static final String LOADING_STATUS_FORMAT = "Loading %s: %d of %d";
+    public static final String LOAD_FAILED_STATUS = "Loading failed, see the log for details";
+
     private static final String FXML = "StatusBarFooter.fxml";
 
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private Label loadProgressStatus;
+
     /**
-     * Creates a {@code StatusBarFooter} with the given {@code Path}.
+     * Creates a {@code StatusBarFooter} with the given {@code Path} that shows {@code loadProgress} until the
+     * address book has been loaded.
      */
-    public StatusBarFooter(Path saveLocation) {
+    public StatusBarFooter(Path saveLocation, ObservableValue<LoadProgress> loadProgress) {
         super(FXML);
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
+        showLoadProgress(loadProgress.getValue());
+        loadProgress.addListener((observable, oldValue, newValue) -> showLoadProgress(newValue));
+    }
+
+    private void showLoadProgress(LoadProgress progress) {
+        switch (progress.getStage()) {
+        case READING:
+            loadProgressStatus.setText(READING_STATUS);
+            break;
+        case PERSONS:
+            loadProgressStatus.setText(String.format(LOADING_STATUS_FORMAT, "persons", progress.getLoaded(),
+                    progress.getTotal()));
+            break;
+        case LOANS:
+            loadProgressStatus.setText(String.format(LOADING_STATUS_FORMAT, "loans", progress.getLoaded(),
+                    progress.getTotal()));
+            break;
+        case FAILED:
+            loadProgressStatus.setText(LOAD_FAILED_STATUS);
+            break;
+        default:
+            loadProgressStatus.setText("");
+            break;
+        }
     }
 
 }
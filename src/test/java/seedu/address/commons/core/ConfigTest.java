@@ -12,7 +12,11 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", saveMaxStalenessMillis=" + config.getSaveMaxStalenessMillis()
+                + ", journalCompactionThresholdBytes=" + config.getJournalCompactionThresholdBytes()
+                + ", progressiveLoading=" + config.isProgressiveLoading()
+                + ", dataFileBackupCount=" + config.getDataFileBackupCount() + "}";
         assertEquals(expected, config.toString());
     }
 
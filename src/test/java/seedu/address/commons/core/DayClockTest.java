@@ -0,0 +1,79 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+public class DayClockTest {
+
+    private static final ZoneId ZONE = ZoneOffset.ofHours(8);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new DayClock(null));
+    }
+
+    @Test
+    public void today_fixedClock_returnsDayInClockZone() {
+        // 2024-02-29T20:00Z is already 2024-03-01 at UTC+8
+        Clock clock = Clock.fixed(Instant.parse("2024-02-29T20:00:00Z"), ZONE);
+        assertEquals(LocalDate.of(2024, 3, 1).toEpochDay(), new DayClock(clock).today());
+    }
+
+    @Test
+    public void today_clockCrossesMidnight_returnsNextDay() {
+        MutableClock clock = new MutableClock(Instant.parse("2024-03-01T15:59:59Z"));
+        DayClock dayClock = new DayClock(clock);
+        assertEquals(LocalDate.of(2024, 3, 1).toEpochDay(), dayClock.today());
+
+        clock.instant = Instant.parse("2024-03-01T16:00:00Z");
+        assertEquals(LocalDate.of(2024, 3, 2).toEpochDay(), dayClock.today());
+
+        // the cached day is also dropped if the clock moves backwards
+        clock.instant = Instant.parse("2024-02-01T00:00:00Z");
+        assertEquals(LocalDate.of(2024, 2, 1).toEpochDay(), dayClock.today());
+    }
+
+    @Test
+    public void millisUntilTomorrow_returnsTimeToNextMidnightInClockZone() {
+        MutableClock clock = new MutableClock(Instant.parse("2024-03-01T15:59:59Z"));
+        DayClock dayClock = new DayClock(clock);
+        assertEquals(1000, dayClock.millisUntilTomorrow());
+
+        clock.instant = Instant.parse("2024-03-01T16:00:00Z");
+        assertEquals(24 * 60 * 60 * 1000, dayClock.millisUntilTomorrow());
+    }
+
+    /**
+     * A clock whose time can be changed by the test.
+     */
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZONE;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
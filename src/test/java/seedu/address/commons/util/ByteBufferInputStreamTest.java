@@ -0,0 +1,31 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+public class ByteBufferInputStreamTest {
+
+    @Test
+    public void read_remainingBytes_readInOrderThenEndOfStream() {
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[] {0, (byte) 200, 2, 3, 4});
+        buffer.position(1);
+        ByteBufferInputStream in = new ByteBufferInputStream(buffer);
+
+        assertEquals(4, in.available());
+        assertEquals(200, in.read());
+        byte[] bytes = new byte[5];
+        assertEquals(2, in.read(bytes, 1, 2));
+        assertEquals(2, bytes[1]);
+        assertEquals(3, bytes[2]);
+        assertEquals(1, in.skip(10));
+        assertEquals(-1, in.read());
+        assertEquals(-1, in.read(bytes, 0, 5));
+        assertEquals(0, in.read(bytes, 0, 0));
+
+        // the buffer given is left unchanged
+        assertEquals(1, buffer.position());
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class DateUtilTest {
+
+    @Test
+    public void parseEpochDay_fullDate_success() throws Exception {
+        assertEquals(LocalDate.of(2024, 2, 29).toEpochDay(), DateUtil.parseEpochDay("2024-02-29"));
+    }
+
+    @Test
+    public void parseEpochDay_shortFieldsOrTrailingText_success() throws Exception {
+        int expected = (int) LocalDate.of(2024, 1, 5).toEpochDay();
+        assertEquals(expected, DateUtil.parseEpochDay("2024-1-5"));
+        assertEquals(expected, DateUtil.parseEpochDay("2024-01-05T10:00"));
+        assertEquals(expected, DateUtil.parseEpochDay("2024-01-05 extra"));
+    }
+
+    @Test
+    public void parseEpochDay_invalidDate_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> DateUtil.parseEpochDay("2023-02-29"));
+        assertThrows(IllegalValueException.class, () -> DateUtil.parseEpochDay("2024-13-01"));
+        assertThrows(IllegalValueException.class, () -> DateUtil.parseEpochDay("2024/01/05"));
+        assertThrows(IllegalValueException.class, () -> DateUtil.parseEpochDay(""));
+    }
+
+    @Test
+    public void formatEpochDay_alwaysPadded() throws Exception {
+        int day = DateUtil.parseEpochDay("2024-1-5");
+        assertEquals("2024-01-05", DateUtil.formatEpochDay(day));
+        assertEquals(day, DateUtil.parseEpochDay(DateUtil.formatEpochDay(day)));
+    }
+}
@@ -1,13 +1,25 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +32,105 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void readToBuffer_smallFile_readOntoHeap() throws Exception {
+        Path file = testFolder.resolve("small");
+        byte[] content = {1, 2, 3};
+        Files.write(file, content);
+
+        ByteBuffer buffer = FileUtil.readToBuffer(file);
+        assertFalse(buffer.isDirect());
+        assertBufferHoldsContent(content, buffer);
+    }
+
+    @Test
+    public void readToBuffer_largeFileTruncatedAfterRead_keepsContent() throws Exception {
+        Path file = testFolder.resolve("large");
+        byte[] content = new byte[(1 << 20) + 1];
+        Arrays.fill(content, (byte) 7);
+        content[content.length - 1] = 9;
+        Files.write(file, content);
+
+        ByteBuffer buffer = FileUtil.readToBuffer(file);
+        Files.write(file, new byte[0]);
+        assertFalse(buffer.isDirect());
+        assertBufferHoldsContent(content, buffer);
+    }
+
+    @Test
+    public void readMapped_smallFile_readOntoHeap() throws Exception {
+        Path file = testFolder.resolve("small");
+        byte[] content = {1, 2, 3};
+        Files.write(file, content);
+
+        assertFalse(FileUtil.readMapped(file, buffer -> {
+            assertBufferHoldsContent(content, buffer);
+            return buffer.isDirect();
+        }));
+    }
+
+    @Test
+    public void readMapped_largeFile_mappedThenReleased() throws Exception {
+        Path file = testFolder.resolve("large");
+        byte[] content = new byte[(int) FileUtil.MAPPED_READ_THRESHOLD_BYTES];
+        Arrays.fill(content, (byte) 7);
+        content[content.length - 1] = 9;
+        Files.write(file, content);
+
+        assertTrue(FileUtil.readMapped(file, buffer -> {
+            assertBufferHoldsContent(content, buffer);
+            return buffer.isDirect();
+        }));
+
+        // the file is no longer mapped, so it can be replaced
+        FileUtil.writeAtomically(file, 1, out -> out.write(new byte[] {1}));
+        assertArrayEquals(new byte[] {1}, Files.readAllBytes(file));
+    }
+
+    @Test
+    public void writeAtomically_backupsKept_rotatesThem() throws Exception {
+        Path file = testFolder.resolve("data");
+        for (int version = 1; version <= 4; version++) {
+            byte[] content = {(byte) version};
+            FileUtil.writeAtomically(file, 2, out -> out.write(content));
+        }
+
+        assertArrayEquals(new byte[] {4}, Files.readAllBytes(file));
+        assertArrayEquals(new byte[] {3}, Files.readAllBytes(FileUtil.getBackupPath(file, 1)));
+        assertArrayEquals(new byte[] {2}, Files.readAllBytes(FileUtil.getBackupPath(file, 2)));
+        assertFalse(Files.exists(FileUtil.getBackupPath(file, 3)));
+        assertFalse(Files.exists(FileUtil.getTempPath(file)));
+    }
+
+    @Test
+    public void writeAtomically_writerFails_keepsFile() throws Exception {
+        Path file = testFolder.resolve("data");
+        FileUtil.writeToFile(file, "old");
+
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, 1, out -> {
+            out.write(new byte[] {1, 2});
+            throw new IOException("disk full");
+        }));
+        assertEquals("old", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getBackupPath(file, 1)));
+        assertFalse(Files.exists(FileUtil.getTempPath(file)));
+    }
+
+    @Test
+    public void writeDurably_writerClosesStream_success() throws Exception {
+        Path file = testFolder.resolve("data");
+        FileUtil.writeDurably(file, out -> {
+            out.write(new byte[] {1, 2, 3});
+            out.close();
+        });
+        assertArrayEquals(new byte[] {1, 2, 3}, Files.readAllBytes(file));
+    }
+
+    private static void assertBufferHoldsContent(byte[] content, ByteBuffer buffer) {
+        assertTrue(buffer.isReadOnly());
+        byte[] read = new byte[buffer.remaining()];
+        buffer.get(read);
+        assertArrayEquals(content, read);
+    }
+
 }
@@ -0,0 +1,151 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentIntMapTest {
+
+    @Test
+    public void empty_hasNoValues() {
+        PersistentIntMap<String> map = PersistentIntMap.empty();
+        assertTrue(map.isEmpty());
+        assertNull(map.get(0));
+        assertTrue(map.values().isEmpty());
+        assertSame(map, map.remove(3));
+    }
+
+    @Test
+    public void put_negativeKey_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> PersistentIntMap.empty().put(-1, "a"));
+    }
+
+    @Test
+    public void put_nullValue_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersistentIntMap.empty().put(1, null));
+    }
+
+    @Test
+    public void put_leavesEarlierVersionsUnchanged() {
+        PersistentIntMap<String> first = PersistentIntMap.<String>empty().put(5, "a").put(Integer.MAX_VALUE, "b");
+        PersistentIntMap<String> second = first.put(5, "c").put(40, "d");
+        PersistentIntMap<String> third = second.remove(Integer.MAX_VALUE);
+
+        assertEquals(Arrays.asList("a", "b"), first.values());
+        assertEquals(Arrays.asList("c", "d", "b"), second.values());
+        assertEquals(Arrays.asList("c", "d"), third.values());
+        assertEquals(2, first.size());
+        assertEquals(3, second.size());
+        assertEquals(2, third.size());
+        assertEquals("a", first.get(5));
+        assertEquals("c", third.get(5));
+    }
+
+    @Test
+    public void randomOperations_matchTreeMap() {
+        Random random = new Random(42);
+        TreeMap<Integer, Integer> expected = new TreeMap<>();
+        PersistentIntMap<Integer> map = PersistentIntMap.empty();
+        for (int i = 0; i < 5000; i++) {
+            int key = random.nextBoolean() ? random.nextInt(200) : random.nextInt(Integer.MAX_VALUE);
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                map = map.remove(key);
+            } else {
+                expected.put(key, i);
+                map = map.put(key, i);
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        assertEquals(new ArrayList<>(expected.values()), map.values());
+        for (int key : expected.keySet()) {
+            assertEquals(expected.get(key), map.get(key));
+        }
+    }
+
+    @Test
+    public void builder_ascendingKeys_matchesMapBuiltByPuts() {
+        Random random = new Random(7);
+        TreeMap<Integer, Integer> expected = new TreeMap<>();
+        for (int i = 0; i < 5000; i++) {
+            expected.put(random.nextBoolean() ? random.nextInt(2000) : random.nextInt(Integer.MAX_VALUE), i);
+        }
+        PersistentIntMap.Builder<Integer> builder = PersistentIntMap.builder();
+        PersistentIntMap<Integer> putMap = PersistentIntMap.empty();
+        for (int key : expected.keySet()) {
+            builder.put(key, expected.get(key));
+            putMap = putMap.put(key, expected.get(key));
+        }
+        PersistentIntMap<Integer> map = builder.build();
+
+        assertEquals(expected.size(), map.size());
+        assertEquals(new ArrayList<>(expected.values()), map.values());
+        for (int key : expected.keySet()) {
+            assertEquals(expected.get(key), map.get(key));
+        }
+        List<Integer> changedKeys = new ArrayList<>();
+        map.forEachChange(putMap, (key, oldValue, newValue) -> changedKeys.add(key));
+        assertTrue(changedKeys.isEmpty());
+        assertEquals(putMap.remove(expected.firstKey()).values(), map.remove(expected.firstKey()).values());
+    }
+
+    @Test
+    public void builder_keysOutOfOrder_throwsIllegalArgumentException() {
+        PersistentIntMap.Builder<String> builder = PersistentIntMap.<String>builder().put(5, "a");
+        assertThrows(IllegalArgumentException.class, () -> builder.put(5, "b"));
+        assertThrows(IllegalArgumentException.class, () -> builder.put(3, "b"));
+        assertTrue(PersistentIntMap.<String>builder().build().isEmpty());
+    }
+
+    @Test
+    public void forEachChange_updatedVersion_reportsOnlyChangedKeys() {
+        PersistentIntMap<String> older = PersistentIntMap.empty();
+        for (int key = 0; key < 1000; key++) {
+            older = older.put(key, "v" + key);
+        }
+        PersistentIntMap<String> newer = older.put(3, "changed").remove(500).put(1 << 30, "added");
+        List<String> changes = new ArrayList<>();
+
+        older.forEachChange(newer, (key, oldValue, newValue) -> changes.add(key + ":" + oldValue + "->" + newValue));
+
+        assertEquals(Arrays.asList("3:v3->changed", "500:v500->null", (1 << 30) + ":null->added"), changes);
+    }
+
+    @Test
+    public void forEach_keysAndValues_inKeyOrder() {
+        PersistentIntMap<String> map = PersistentIntMap.<String>empty().put(1 << 20, "b").put(7, "a");
+        List<String> entries = new ArrayList<>();
+
+        map.forEach((key, value) -> entries.add(key + "=" + value));
+
+        assertEquals(Arrays.asList("7=a", (1 << 20) + "=b"), entries);
+    }
+
+    @Test
+    public void iterator_removeAll_isEmpty() {
+        PersistentIntMap<Integer> map = PersistentIntMap.empty();
+        List<Integer> keys = Arrays.asList(3, 1, 1 << 20, 7, 1 << 30);
+        for (int key : keys) {
+            map = map.put(key, key);
+        }
+        List<Integer> sortedKeys = new ArrayList<>(keys);
+        Collections.sort(sortedKeys);
+        assertEquals(sortedKeys, map.values());
+        for (int key : keys) {
+            map = map.remove(key);
+        }
+        assertTrue(map.isEmpty());
+        assertTrue(map.values().isEmpty());
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersonsWithLoans.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.LoadProgress;
+import seedu.address.model.ModelManager;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ProgressiveLoaderTest {
+
+    private final ModelManager model = new ModelManager();
+    private final List<Runnable> uiTasks = new ArrayList<>();
+    private final ProgressiveLoader loader = new ProgressiveLoader(model, uiTasks::add);
+
+    @Test
+    public void load_addressBookWithLoans_addedOnUiThreadWithoutHistory() {
+        AddressBook addressBook = getTypicalAddressBook();
+        model.getLoadProgress().setValue(LoadProgress.READING);
+        loader.load(() -> addressBook);
+        assertTrue(model.getAddressBook().getPersonList().isEmpty());
+
+        runUiTasks();
+        assertEquals(addressBook, model.getAddressBook());
+        assertEquals(LoadProgress.DONE, model.getLoadProgress().getValue());
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void load_manyPersons_addsPersonsInBatchesBeforeLoans() {
+        AddressBook addressBook = new AddressBook();
+        int personCount = ProgressiveLoader.BATCH_SIZE * 2 + 1;
+        for (int i = 0; i < personCount; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Person " + i).build());
+        }
+        List<LoadProgress> progress = new ArrayList<>();
+        model.getLoadProgress().addListener((observable, oldValue, newValue) -> progress.add(newValue));
+
+        loader.load(() -> addressBook);
+        runUiTasks();
+
+        List<LoadProgress> expected = new ArrayList<>();
+        expected.add(new LoadProgress(LoadProgress.Stage.PERSONS, 0, personCount));
+        expected.add(new LoadProgress(LoadProgress.Stage.PERSONS, ProgressiveLoader.BATCH_SIZE, personCount));
+        expected.add(new LoadProgress(LoadProgress.Stage.PERSONS, ProgressiveLoader.BATCH_SIZE * 2, personCount));
+        expected.add(new LoadProgress(LoadProgress.Stage.PERSONS, personCount, personCount));
+        expected.add(new LoadProgress(LoadProgress.Stage.LOANS, 0, 0));
+        expected.add(LoadProgress.DONE);
+        assertEquals(expected, progress);
+        assertEquals(addressBook.getPersonList(), model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void load_readerFails_doneWithNoData() {
+        model.getLoadProgress().setValue(LoadProgress.READING);
+        loader.load(() -> {
+            throw new IllegalStateException("dummy failure");
+        });
+        runUiTasks();
+        assertEquals(new AddressBook(), model.getAddressBook());
+        assertTrue(model.getLoadProgress().getValue().isDone());
+    }
+
+    @Test
+    public void load_batchFails_stopsAtFailed() {
+        AddressBook addressBook = getTypicalAddressBook();
+        model.addPerson(addressBook.getPersonList().get(0));
+        loader.load(() -> addressBook);
+        runUiTasks();
+        assertEquals(LoadProgress.FAILED, model.getLoadProgress().getValue());
+        assertTrue(model.getAddressBook().getLoanList().isEmpty());
+
+        loader.load(() -> addressBook);
+        assertTrue(uiTasks.isEmpty());
+    }
+
+    @Test
+    public void load_batchesQueuedTogether_handedOverInFewTasks() {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < ProgressiveLoader.BATCH_SIZE * 3; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Person " + i).build());
+        }
+        loader.load(() -> addressBook);
+        assertEquals(1, uiTasks.size());
+        runUiTasks();
+        assertTrue(model.getLoadProgress().getValue().isDone());
+        for (Person person : addressBook.getPersonList()) {
+            assertTrue(model.hasPerson(person));
+        }
+    }
+
+    private void runUiTasks() {
+        while (!uiTasks.isEmpty()) {
+            uiTasks.remove(0).run();
+        }
+    }
+}
@@ -10,6 +10,8 @@ import static seedu.address.testutil.TypicalPersons.ALICE;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -20,6 +22,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.LoadProgress;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -218,6 +221,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ObjectProperty<LoadProgress> getLoadProgress() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteLoan(Loan loan) {
             throw new AssertionError("This method should not be called.");
@@ -233,6 +241,76 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addLoadedPersons(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addLoadedLoans(List<Loan> loans) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Loan> getLoansAssignedTo(Person assignee) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Analytics getLoanAnalytics(Person assignee) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setLoan(Loan target, Loan editedLoan) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlyAddressBook getAddressBookSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void batch(Consumer<Model> unitOfWork) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollOverDay() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setIsAnalyticsTab(Boolean isAnalyticsTab) {
             throw new AssertionError("This method should not be called.");
@@ -21,6 +21,7 @@ import seedu.address.commons.util.DateUtil;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
+import seedu.address.model.person.Money;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
@@ -30,9 +31,9 @@ import seedu.address.testutil.EditPersonDescriptorBuilder;
  */
 public class CommandTestUtil {
 
-    public static final BigDecimal VALID_LOAN_VALUE_ONE = new BigDecimal("500.00");
-    public static final BigDecimal VALID_LOAN_VALUE_TWO = new BigDecimal("42.67");
-    public static final BigDecimal VALID_LOAN_VALUE_THREE = new BigDecimal("0.01");
+    public static final Money VALID_LOAN_VALUE_ONE = Money.of(new BigDecimal("500.00"));
+    public static final Money VALID_LOAN_VALUE_TWO = Money.of(new BigDecimal("42.67"));
+    public static final Money VALID_LOAN_VALUE_THREE = Money.of(new BigDecimal("0.01"));
     public static final Date VALID_LOAN_START_DATE_ONE;
     public static final Date VALID_LOAN_START_DATE_TWO;
     public static final Date VALID_LOAN_START_DATE_THREE;
@@ -92,6 +92,22 @@ public class EditLoanCommandTest {
         assertEquals(String.format(EditLoanCommand.MESSAGE_SUCCESS, editedLoan), commandResult.getFeedbackToUser());
     }
 
+    @Test
+    public void execute_returnedLoan_keepsIdAndReturnStatus() throws CommandException {
+        Loan loanToEdit = model.getSortedLoanList().get(0);
+        model.markLoan(loanToEdit);
+        EditLoanDescriptor editLoanDescriptor = new EditLoanDescriptor();
+        editLoanDescriptor.setValue(VALID_LOAN_VALUE_ONE);
+
+        new EditLoanCommand(editLoanDescriptor, Index.fromOneBased(1)).execute(model);
+
+        Loan editedLoan = model.getSortedLoanList().get(0);
+        assertEquals(loanToEdit.getId(), editedLoan.getId());
+        assertEquals(loanToEdit.getAssignee(), editedLoan.getAssignee());
+        assertTrue(editedLoan.isReturned());
+        assertEquals(loanListSize, model.getSortedLoanList().size());
+    }
+
     @Test
     public void execute_invalidLoanIndex_failure() {
         EditLoanDescriptor editLoanDescriptor = new EditLoanDescriptor();
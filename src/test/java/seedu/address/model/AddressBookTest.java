@@ -21,6 +21,7 @@ import javafx.collections.ObservableList;
 import seedu.address.model.person.Loan;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.testutil.LoanBuilder;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddressBookTest {
@@ -55,6 +56,35 @@ public class AddressBookTest {
         assertThrows(DuplicatePersonException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void getVersion_changesOnlyWhenDataChanges() {
+        long initialVersion = addressBook.getVersion();
+        addressBook.hasPerson(ALICE);
+        addressBook.getPersonList();
+        assertEquals(initialVersion, addressBook.getVersion());
+
+        addressBook.addPerson(ALICE);
+        long versionAfterAdd = addressBook.getVersion();
+        assertTrue(versionAfterAdd > initialVersion);
+
+        Loan loan = new LoanBuilder().withId(1).withAssignee(ALICE).build();
+        addressBook.addLoan(loan);
+        addressBook.markLoan(loan);
+        assertTrue(addressBook.getVersion() > versionAfterAdd);
+    }
+
+    @Test
+    public void rollOverDay_loanBecomesOverdue_versionUnchanged() {
+        addressBook.addPerson(ALICE);
+        Loan loan = new LoanBuilder().withId(1).withAssignee(ALICE).withReturnDate("2040-01-05").build();
+        addressBook.addLoan(loan);
+        addressBook.rollOverDay(loan.getReturnDay());
+        long version = addressBook.getVersion();
+
+        assertEquals(Collections.singletonList(loan), addressBook.rollOverDay(loan.getReturnDay() + 1));
+        assertEquals(version, addressBook.getVersion());
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasPerson(null));
@@ -84,6 +114,47 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void snapshot_laterChanges_doNotAffectSnapshot() {
+        addressBook.addPerson(ALICE);
+        Person bob = new PersonBuilder().withName("Bob").build();
+        addressBook.addPerson(bob);
+        Loan aliceLoan = new LoanBuilder().withId(1).withAssignee(ALICE).build();
+        addressBook.addLoan(aliceLoan);
+
+        ReadOnlyAddressBook snapshot = addressBook.snapshot();
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        addressBook.setPerson(ALICE, editedAlice);
+        addressBook.markLoan(aliceLoan);
+        addressBook.removePerson(bob);
+        addressBook.addLoan(new LoanBuilder().withId(2).withAssignee(editedAlice).build());
+
+        assertEquals(Arrays.asList(ALICE, bob), snapshot.getPersonList());
+        assertEquals(Collections.singletonList(aliceLoan), snapshot.getLoanList());
+        Loan snapshotLoan = snapshot.getLoanList().get(0);
+        assertFalse(snapshotLoan.isReturned());
+        assertEquals(ALICE, snapshotLoan.getAssignee());
+
+        ReadOnlyAddressBook laterSnapshot = addressBook.snapshot();
+        assertEquals(Collections.singletonList(editedAlice), laterSnapshot.getPersonList());
+        assertEquals(2, laterSnapshot.getLoanList().size());
+        assertTrue(laterSnapshot.getLoanList().get(0).isReturned());
+        assertEquals(editedAlice, laterSnapshot.getLoanList().get(0).getAssignee());
+    }
+
+    @Test
+    public void resetData_fromSnapshot_snapshotLoansUnchanged() {
+        addressBook.addPerson(ALICE);
+        addressBook.addLoan(new LoanBuilder().withId(1).withAssignee(ALICE).build());
+        ReadOnlyAddressBook snapshot = addressBook.snapshot();
+
+        AddressBook restored = new AddressBook(snapshot);
+        Loan snapshotLoan = snapshot.getLoanList().get(0);
+        restored.markLoan(snapshotLoan);
+        assertFalse(snapshotLoan.isReturned());
+        assertTrue(restored.getLoanList().get(0).isReturned());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList() + "}";
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+import static seedu.address.model.Model.PREDICATE_SHOW_NO_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
@@ -11,12 +12,18 @@ import static seedu.address.testutil.TypicalPersons.BENSON;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.Loan;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.LoanBuilder;
 
 public class ModelManagerTest {
 
@@ -93,6 +100,132 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void batch_completes_appliesAllChangesWithOneChangePerList() {
+        modelManager.addPerson(ALICE);
+        Loan loan = new LoanBuilder().withId(1).withAssignee(ALICE).build();
+        modelManager.addLoan(loan);
+        int[] personListChanges = {0};
+        modelManager.getAddressBook().getPersonList().addListener(
+                (ListChangeListener<Person>) change -> personListChanges[0]++);
+
+        modelManager.batch(model -> {
+            model.addPerson(BENSON);
+            model.deletePerson(ALICE);
+            model.updateFilteredPersonList(PREDICATE_SHOW_NO_PERSONS);
+        });
+
+        assertEquals(Collections.singletonList(BENSON), modelManager.getAddressBook().getPersonList());
+        assertTrue(modelManager.getAddressBook().getLoanList().isEmpty());
+        assertTrue(modelManager.getFilteredPersonList().isEmpty());
+        assertEquals(1, personListChanges[0]);
+    }
+
+    @Test
+    public void batch_throws_rollsBackAllChanges() {
+        modelManager.addPerson(ALICE);
+        Loan loan = new LoanBuilder().withId(1).withAssignee(ALICE).build();
+        modelManager.addLoan(loan);
+
+        assertThrows(DuplicatePersonException.class, () -> modelManager.batch(model -> {
+            model.markLoan(model.getAddressBook().getLoanList().get(0));
+            model.addPerson(BENSON);
+            model.addPerson(BENSON);
+        }));
+
+        assertEquals(Collections.singletonList(ALICE), modelManager.getAddressBook().getPersonList());
+        assertEquals(Collections.singletonList(loan), modelManager.getAddressBook().getLoanList());
+        assertFalse(loan.isReturned());
+        assertEquals(1, ((AddressBook) modelManager.getAddressBook()).getUniqueLoanList().getAggregate()
+                .getNumActiveLoans());
+    }
+
+    @Test
+    public void batch_completes_undoneWithCurrentStep() {
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+
+        modelManager.batch(model -> {
+            model.addPerson(BENSON);
+            model.deletePerson(ALICE);
+        });
+        modelManager.commitAddressBook();
+        modelManager.undoAddressBook();
+
+        assertEquals(Collections.singletonList(ALICE), modelManager.getAddressBook().getPersonList());
+        assertTrue(modelManager.canUndoAddressBook());
+    }
+
+    @Test
+    public void batch_throws_publishesAtMostOneChangeAndKeepsFilters() {
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        int[] personListChanges = {0};
+        modelManager.getAddressBook().getPersonList().addListener(
+                (ListChangeListener<Person>) change -> personListChanges[0]++);
+
+        assertThrows(DuplicatePersonException.class, () -> modelManager.batch(model -> {
+            model.updateFilteredPersonList(PREDICATE_SHOW_NO_PERSONS);
+            model.addPerson(BENSON);
+            model.addPerson(BENSON);
+        }));
+
+        assertEquals(Collections.singletonList(ALICE), modelManager.getFilteredPersonList());
+        assertTrue(personListChanges[0] <= 1);
+        modelManager.undoAddressBook();
+        assertTrue(modelManager.getAddressBook().getPersonList().isEmpty());
+    }
+
+    @Test
+    public void undoAddressBook_deletedPersonWithLoans_restoresPositionAndLoans() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        Loan loan = new LoanBuilder().withId(1).withAssignee(ALICE).build();
+        modelManager.addLoan(loan);
+        modelManager.markLoan(loan);
+        modelManager.commitAddressBook();
+
+        modelManager.deletePerson(ALICE);
+        modelManager.commitAddressBook();
+        assertTrue(modelManager.getAddressBook().getLoanList().isEmpty());
+
+        modelManager.undoAddressBook();
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getAddressBook().getPersonList());
+        assertEquals(Collections.singletonList(loan), modelManager.getAddressBook().getLoanList());
+        assertEquals(ALICE, modelManager.getAddressBook().getLoanList().get(0).getAssignee());
+        assertTrue(loan.isReturned());
+
+        modelManager.undoAddressBook();
+        assertTrue(modelManager.getAddressBook().getPersonList().isEmpty());
+        assertTrue(modelManager.getAddressBook().getLoanList().isEmpty());
+        assertFalse(loan.isReturned());
+        assertFalse(modelManager.canUndoAddressBook());
+
+        modelManager.redoAddressBook();
+        modelManager.redoAddressBook();
+        assertEquals(Collections.singletonList(BENSON), modelManager.getAddressBook().getPersonList());
+        assertTrue(modelManager.getAddressBook().getLoanList().isEmpty());
+        assertFalse(modelManager.canRedoAddressBook());
+    }
+
+    @Test
+    public void undoAddressBook_clearedAddressBook_restoresAddressBook() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        Loan loan = new LoanBuilder().withId(1).withAssignee(BENSON).build();
+        modelManager.addLoan(loan);
+        modelManager.commitAddressBook();
+
+        modelManager.setAddressBook(new AddressBook());
+        modelManager.commitAddressBook();
+        modelManager.undoAddressBook();
+
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getAddressBook().getPersonList());
+        assertEquals(Collections.singletonList(loan), modelManager.getAddressBook().getLoanList());
+        assertEquals(1, ((AddressBook) modelManager.getAddressBook()).getUniqueLoanList().getAggregate()
+                .getNumActiveLoans());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
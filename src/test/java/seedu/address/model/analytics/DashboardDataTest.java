@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.model.person.Analytics;
 import seedu.address.model.person.Loan;
+import seedu.address.model.person.Money;
 import seedu.address.model.person.UniqueLoanList;
 import seedu.address.testutil.LoanBuilder;
 
@@ -19,7 +20,7 @@ public class DashboardDataTest {
     @Test
     public void constructor_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> new DashboardData(null,
-                new BigDecimal("100"), new Date()));
+                Money.of(new BigDecimal("100")), new Date()));
     }
 
     @Test
@@ -38,12 +39,12 @@ public class DashboardDataTest {
         Analytics a1 = Analytics.getAnalytics(loanList.asUnmodifiableObservableList());
         // Earliest return date in whole database is today
         // Urgency index should be zero
-        DashboardData dd1 = new DashboardData(a1, new BigDecimal("100"), new Date());
+        DashboardData dd1 = new DashboardData(a1, Money.of(new BigDecimal("100")), new Date());
         assertEquals(0, dd1.getUrgencyIndex());
 
         // Earliest return date in whole database is one week after now
         // Since l1 has the same due date, urgency should be 100%
-        DashboardData dd2 = new DashboardData(a1, new BigDecimal("100"), oneWeekAfterNow);
+        DashboardData dd2 = new DashboardData(a1, Money.of(new BigDecimal("100")), oneWeekAfterNow);
         assertEquals(1, dd2.getUrgencyIndex());
 
         // Return loan 1
@@ -51,7 +52,7 @@ public class DashboardDataTest {
         // Regenerate analytics
         Analytics a2 = Analytics.getAnalytics(loanList.asUnmodifiableObservableList());
         // Earliest return date in whole database is 2 week after now
-        DashboardData dd3 = new DashboardData(a2, new BigDecimal("100"), oneWeekAfterNow);
+        DashboardData dd3 = new DashboardData(a2, Money.of(new BigDecimal("100")), oneWeekAfterNow);
         assertEquals((float) 0.5, dd3.getUrgencyIndex());
     }
 
@@ -68,7 +69,7 @@ public class DashboardDataTest {
         loanList.addLoan(l3);
 
         Analytics a1 = Analytics.getAnalytics(loanList.asUnmodifiableObservableList());
-        DashboardData dd1 = new DashboardData(a1, new BigDecimal("300"), new Date());
+        DashboardData dd1 = new DashboardData(a1, Money.of(new BigDecimal("300")), new Date());
         assertEquals(new BigDecimal("0.67"), dd1.getImpactIndex());
 
         // return all loans
@@ -78,7 +79,7 @@ public class DashboardDataTest {
 
         // Regenerate analytics
         Analytics a2 = Analytics.getAnalytics(loanList.asUnmodifiableObservableList());
-        DashboardData dd2 = new DashboardData(a2, new BigDecimal("300"), new Date());
+        DashboardData dd2 = new DashboardData(a2, Money.of(new BigDecimal("300")), new Date());
         // Should not change since returned loans should not affect impact index
         assertEquals(new BigDecimal("0.67"), dd2.getImpactIndex());
 
@@ -0,0 +1,95 @@
+package seedu.address.model.analytics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.math.BigDecimal;
+import java.util.Date;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Loan;
+import seedu.address.model.person.Money;
+import seedu.address.testutil.LoanBuilder;
+
+public class LoanAggregateTest {
+
+    private static final Date ONE_WEEK_BEFORE_NOW = new Date(new Date().getTime() - 604800000);
+    private static final Date ONE_WEEK_AFTER_NOW = new Date(new Date().getTime() + 604800000);
+
+    private final Loan overdueLoan = new LoanBuilder().withId(1).withValue(new BigDecimal("100"))
+            .withReturnDate(ONE_WEEK_BEFORE_NOW).build();
+    private final Loan activeLoan = new LoanBuilder().withId(2).withValue(new BigDecimal("300"))
+            .withReturnDate(ONE_WEEK_AFTER_NOW).build();
+    private final Loan returnedLoan = new LoanBuilder().withId(3).withValue(new BigDecimal("200"))
+            .withIsReturned(true).build();
+
+    @Test
+    public void emptyAggregate() {
+        LoanAggregate aggregate = new LoanAggregate();
+        assertEquals(0, aggregate.getNumLoans());
+        assertEquals(Money.ZERO, aggregate.getMaxLoanValue());
+        assertNull(aggregate.getEarliestLoanDate());
+        assertNull(aggregate.getEarliestReturnDate());
+        assertNull(aggregate.getLatestReturnDate());
+    }
+
+    @Test
+    public void add_mixedLoans_tracksTotals() {
+        LoanAggregate aggregate = new LoanAggregate();
+        aggregate.add(overdueLoan);
+        aggregate.add(activeLoan);
+        aggregate.add(returnedLoan);
+
+        assertEquals(3, aggregate.getNumLoans());
+        assertEquals(2, aggregate.getNumActiveLoans());
+        assertEquals(1, aggregate.getNumOverdueLoans());
+        assertEquals(Money.of(new BigDecimal("600")), aggregate.getTotalValueLoaned());
+        assertEquals(Money.of(new BigDecimal("400")), aggregate.getTotalValueActive());
+        assertEquals(Money.of(new BigDecimal("100")), aggregate.getTotalValueOverdue());
+        assertEquals(Money.of(new BigDecimal("300")), aggregate.getMaxLoanValue());
+        assertEquals(activeLoan.getReturnDate(), aggregate.getEarliestReturnDate());
+        assertEquals(activeLoan.getReturnDate(), aggregate.getLatestReturnDate());
+    }
+
+    @Test
+    public void remove_addedLoans_restoresTotals() {
+        LoanAggregate aggregate = new LoanAggregate();
+        aggregate.add(overdueLoan);
+        aggregate.add(activeLoan);
+        aggregate.remove(activeLoan);
+
+        assertEquals(1, aggregate.getNumLoans());
+        assertEquals(Money.of(new BigDecimal("100")), aggregate.getMaxLoanValue());
+        assertNull(aggregate.getEarliestReturnDate());
+
+        aggregate.remove(overdueLoan);
+        assertEquals(0, aggregate.getNumLoans());
+        assertEquals(0, aggregate.getNumOverdueLoans());
+        assertEquals(Money.ZERO, aggregate.getTotalValueLoaned());
+    }
+
+    @Test
+    public void rollOverTo_movesLoansBetweenDueAndOverdue() {
+        LoanAggregate aggregate = new LoanAggregate(overdueLoan.getReturnDay());
+        aggregate.add(overdueLoan);
+        aggregate.add(activeLoan);
+        aggregate.add(returnedLoan);
+        assertEquals(0, aggregate.getNumOverdueLoans());
+        assertEquals(overdueLoan.getReturnDate(), aggregate.getEarliestReturnDate());
+
+        aggregate.rollOverTo(activeLoan.getReturnDay() + 1);
+        assertEquals(2, aggregate.getNumOverdueLoans());
+        assertEquals(Money.of(new BigDecimal("400")), aggregate.getTotalValueOverdue());
+        assertNull(aggregate.getEarliestReturnDate());
+
+        aggregate.rollOverTo(activeLoan.getReturnDay());
+        assertEquals(1, aggregate.getNumOverdueLoans());
+        assertEquals(activeLoan.getReturnDate(), aggregate.getLatestReturnDate());
+
+        // removing an overdue loan takes it out of the overdue totals
+        aggregate.remove(overdueLoan);
+        assertEquals(0, aggregate.getNumOverdueLoans());
+        assertEquals(Money.ZERO, aggregate.getTotalValueOverdue());
+    }
+}
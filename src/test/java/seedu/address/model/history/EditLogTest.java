@@ -0,0 +1,111 @@
+package seedu.address.model.history;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class EditLogTest {
+
+    private final List<Integer> values = new ArrayList<>();
+
+    @Test
+    public void record_notRecording_nothingToUndo() {
+        EditLog editLog = new EditLog();
+        add(editLog, 1);
+
+        assertFalse(editLog.commit());
+        assertFalse(editLog.canUndo());
+    }
+
+    @Test
+    public void undo_stepWithSeveralEdits_undoesLatestEditFirst() {
+        EditLog editLog = new EditLog();
+        editLog.setRecording(true);
+        add(editLog, 1);
+        editLog.commit();
+        add(editLog, 2);
+        add(editLog, 3);
+        editLog.commit();
+
+        editLog.undo();
+        assertEquals(Arrays.asList(1), values);
+        assertTrue(editLog.canUndo());
+
+        editLog.redo();
+        assertEquals(Arrays.asList(1, 2, 3), values);
+        assertFalse(editLog.canRedo());
+    }
+
+    @Test
+    public void undo_replaying_doesNotRecord() {
+        EditLog editLog = new EditLog();
+        editLog.setRecording(true);
+        add(editLog, 1);
+        editLog.commit();
+
+        editLog.undo();
+
+        assertFalse(editLog.commit());
+        assertFalse(editLog.canUndo());
+        assertTrue(editLog.canRedo());
+    }
+
+    @Test
+    public void rollBackTo_undoesEditsSinceMarkOnly() {
+        EditLog editLog = new EditLog();
+        editLog.setRecording(true);
+        add(editLog, 1);
+        int mark = editLog.mark();
+        add(editLog, 2);
+        add(editLog, 3);
+
+        editLog.rollBackTo(mark);
+        assertEquals(Arrays.asList(1), values);
+
+        assertTrue(editLog.commit());
+        editLog.undo();
+        assertTrue(values.isEmpty());
+        assertFalse(editLog.canUndo());
+    }
+
+    @Test
+    public void commit_beyondCapacity_dropsOldestStep() {
+        EditLog editLog = new EditLog(2);
+        editLog.setRecording(true);
+        for (int i = 1; i <= 3; i++) {
+            add(editLog, i);
+            editLog.commit();
+        }
+
+        editLog.undo();
+        editLog.undo();
+
+        assertEquals(Arrays.asList(1), values);
+        assertFalse(editLog.canUndo());
+    }
+
+    @Test
+    public void commit_afterUndo_discardsRedo() {
+        EditLog editLog = new EditLog();
+        editLog.setRecording(true);
+        add(editLog, 1);
+        editLog.commit();
+        editLog.undo();
+
+        add(editLog, 2);
+        editLog.commit();
+
+        assertFalse(editLog.canRedo());
+    }
+
+    private void add(EditLog editLog, int value) {
+        values.add(value);
+        editLog.record(() -> values.remove(values.size() - 1), () -> values.add(value));
+    }
+}
@@ -9,6 +9,7 @@ import java.math.BigDecimal;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.analytics.LoanAggregate;
 import seedu.address.testutil.LoanBuilder;
 
 public class AnalyticsTest {
@@ -26,7 +27,7 @@ public class AnalyticsTest {
         assertEquals(0, test.getNumActiveLoans()); // No active loans
         assertEquals(0, test.getPropOverdueLoans()); // Proportion of overdue loans is 0 (default)
         assertEquals(0, test.getPropActiveLoans()); // Proportion of active loans is 0 (default)
-        assertEquals(BigDecimal.ZERO, test.getAverageLoanValue()); // Average loan value is 0 (default)
+        assertEquals(Money.ZERO, test.getAverageLoanValue()); // Average loan value is 0 (default)
         assertNull(test.getEarliestReturnDate()); // Earliest loan date is null
     }
 
@@ -40,7 +41,7 @@ public class AnalyticsTest {
         assertEquals(1, test.getNumActiveLoans()); // 1 active loan
         assertEquals(0, test.getPropOverdueLoans()); // Proportion of overdue loans is 0 (default)
         assertEquals(1, test.getPropActiveLoans()); // Proportion of active loans is 1
-        assertEquals(new BigDecimal("100.00"), test.getAverageLoanValue()); // Average loan value is 100
+        assertEquals(Money.of(new BigDecimal("100.00")), test.getAverageLoanValue()); // Average loan value is 100
         assertEquals(loan.getReturnDate(), test.getEarliestReturnDate()); // return the loan's return date
     }
 
@@ -60,7 +61,7 @@ public class AnalyticsTest {
         assertEquals(4, test.getNumActiveLoans()); // 4 active loans
         assertEquals(0.25, test.getPropOverdueLoans()); // Proportion of overdue loans is 0.25
         assertEquals(1, test.getPropActiveLoans()); // Proportion of active loans is 1
-        assertEquals(new BigDecimal("200.00"), test.getAverageLoanValue()); // Average loan value is 200
+        assertEquals(Money.of(new BigDecimal("200.00")), test.getAverageLoanValue()); // Average loan value is 200
         // Earliest return date should NOT be loan4's return date since it is overdue
         assertNotEquals(loan4.getReturnDate(), test.getEarliestReturnDate());
         // Earliest return date can be either 1,2 or 3's return date
@@ -85,10 +86,21 @@ public class AnalyticsTest {
         assertEquals(3, test.getNumActiveLoans()); // 3 active loans
         assertEquals(0, test.getPropOverdueLoans()); // Proportion of overdue loans is 0 (loan4 is returned)
         assertEquals(0.75, test.getPropActiveLoans()); // Proportion of active loans is 1
-        assertEquals(new BigDecimal("200.00"), test.getAverageLoanValue()); // Average loan value is 200
+        assertEquals(Money.of(new BigDecimal("200.00")), test.getAverageLoanValue()); // Average loan value is 200
         // Earliest return date must be loan1's return date
         assertEquals(loan1.getReturnDate(), test.getEarliestReturnDate());
     }
 
+    @Test
+    public void fromAggregate_readsAggregateAsOfItsDay() {
+        Loan loan = new LoanBuilder().withReturnDate("2040-01-05").build();
+        LoanAggregate aggregate = new LoanAggregate(loan.getReturnDay() + 1);
+        aggregate.add(loan);
+
+        Analytics test = Analytics.fromAggregate(aggregate);
+        assertEquals(1.0f, test.getPropOverdueLoans());
+        assertEquals(loan.getReturnDay() + 1, aggregate.getAsOfDay());
+    }
+
 
 }
@@ -34,6 +34,17 @@ public class LoanTest {
         assertFalse(ACTIVE_NON_OVERDUE_LOAN.equals(editedActiveNonOverdueLoan));
     }
 
+    @Test
+    public void isOverdue() {
+        Loan loan = new LoanBuilder().withReturnDate("2020-01-13").build();
+        int returnDay = loan.getReturnDay();
+        assertFalse(loan.isOverdue(returnDay));
+        assertTrue(loan.isOverdue(returnDay + 1));
+
+        // returned loans are never overdue
+        assertFalse(new LoanBuilder(loan).withIsReturned(true).build().isOverdue(returnDay + 1));
+    }
+
     @Test
     public void isValidValue() {
         // value is zero -> returns false
@@ -66,13 +77,13 @@ public class LoanTest {
     @Test
     public void toStringMethod() {
         String expected = String.format("$%.2f, %s, %s",
-            ACTIVE_NON_OVERDUE_LOAN.getValue(),
+            ACTIVE_NON_OVERDUE_LOAN.getValue().toBigDecimal(),
             DateUtil.format(ACTIVE_NON_OVERDUE_LOAN.getStartDate()),
             DateUtil.format(ACTIVE_NON_OVERDUE_LOAN.getReturnDate()));
         assertEquals(expected, ACTIVE_NON_OVERDUE_LOAN.toString());
 
         expected = String.format("$%.2f, %s, %s (Returned)",
-            INACTIVE_LOAN.getValue(),
+            INACTIVE_LOAN.getValue().toBigDecimal(),
             DateUtil.format(INACTIVE_LOAN.getStartDate()),
             DateUtil.format(INACTIVE_LOAN.getReturnDate()));
         assertEquals(expected, INACTIVE_LOAN.toString());
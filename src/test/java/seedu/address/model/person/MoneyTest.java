@@ -0,0 +1,68 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+
+public class MoneyTest {
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> Money.of(null));
+    }
+
+    @Test
+    public void equals_ignoresTrailingZeros() {
+        assertEquals(Money.of(new BigDecimal("100")), Money.of(new BigDecimal("100.00")));
+        assertEquals(Money.of(new BigDecimal("100")).hashCode(), Money.of(new BigDecimal("100.0")).hashCode());
+        assertEquals(Money.ofCents(1050), Money.of(new BigDecimal("10.5")));
+        assertNotEquals(Money.of(new BigDecimal("0.001")), Money.ZERO);
+    }
+
+    @Test
+    public void add_subtract_centsAndSubCentAmounts() {
+        Money tenFifty = Money.of(new BigDecimal("10.50"));
+        Money tiny = Money.of(new BigDecimal("0.005"));
+        assertEquals(Money.ofCents(2100), tenFifty.add(tenFifty));
+        assertEquals(Money.ZERO, tenFifty.subtract(tenFifty));
+        assertEquals(Money.of(new BigDecimal("10.505")), tenFifty.add(tiny));
+        assertEquals(tenFifty, tenFifty.add(tiny).subtract(tiny));
+    }
+
+    @Test
+    public void add_overflowingCents_fallsBackToExactAmount() {
+        Money max = Money.ofCents(Long.MAX_VALUE);
+        Money sum = max.add(Money.ofCents(1));
+        assertEquals(BigDecimal.valueOf(Long.MAX_VALUE, 2).add(new BigDecimal("0.01")), sum.toBigDecimal());
+        assertEquals(max, sum.subtract(Money.ofCents(1)));
+        assertTrue(sum.compareTo(max) > 0);
+    }
+
+    @Test
+    public void divide_roundsHalfUp() {
+        assertEquals(Money.ofCents(67), Money.ofCents(200).divide(3));
+        assertEquals(Money.ofCents(1), Money.ofCents(1).divide(2));
+        assertEquals(Money.ofCents(-1), Money.ofCents(-1).divide(2));
+        assertThrows(ArithmeticException.class, () -> Money.ofCents(1).divide(0));
+    }
+
+    @Test
+    public void ratioTo_roundsToTwoDecimalPlaces() {
+        assertEquals(new BigDecimal("0.67"), Money.ofCents(200).ratioTo(Money.ofCents(300)));
+        assertEquals(new BigDecimal("0.67"),
+                Money.of(new BigDecimal("200.001")).ratioTo(Money.of(new BigDecimal("300"))));
+    }
+
+    @Test
+    public void toString_keepsGivenDecimalPlaces() {
+        assertEquals("100", Money.of(new BigDecimal("100")).toString());
+        assertEquals("100.5", Money.of(new BigDecimal("100.5")).toString());
+        assertEquals("100.500", Money.of(new BigDecimal("100.500")).toString());
+        assertEquals("100.50", Money.of(new BigDecimal("100")).add(Money.of(new BigDecimal("0.5"))).toString());
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonRegistryTest {
+
+    private final PersonRegistry registry = new PersonRegistry();
+
+    @Test
+    public void register_samePerson_returnsSameRef() {
+        PersonRef aliceRef = registry.register(ALICE);
+        assertTrue(aliceRef.isRegistered());
+        assertSame(aliceRef, registry.register(new PersonBuilder(ALICE).build()));
+        assertSame(aliceRef, registry.lookup(aliceRef.getId()));
+        assertFalse(aliceRef.getId() == registry.register(BOB).getId());
+        assertEquals(2, registry.size());
+    }
+
+    @Test
+    public void replace_keepsIdAndResolvesToEditedPerson() {
+        PersonRef aliceRef = registry.register(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99999999").build();
+
+        assertSame(aliceRef, registry.replace(ALICE, editedAlice));
+        assertEquals(editedAlice, aliceRef.get());
+        assertSame(aliceRef, registry.lookup(editedAlice));
+        assertNull(registry.lookup(ALICE));
+    }
+
+    @Test
+    public void unregister_removesRefAndNeverReusesId() {
+        int aliceId = registry.register(ALICE).getId();
+        registry.unregister(aliceId);
+        assertNull(registry.lookup(ALICE));
+        assertNull(registry.lookup(aliceId));
+        assertFalse(aliceId == registry.register(ALICE).getId());
+    }
+
+    @Test
+    public void unregistered_hasUnregisteredId() {
+        PersonRef ref = PersonRef.unregistered(ALICE);
+        assertFalse(ref.isRegistered());
+        assertEquals(PersonRef.UNREGISTERED_ID, ref.getId());
+    }
+}
@@ -0,0 +1,384 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener.Change;
+
+import seedu.address.model.person.exceptions.DuplicateLoanException;
+import seedu.address.model.person.exceptions.LoanNotFoundException;
+import seedu.address.testutil.LoanBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class UniqueLoanListTest {
+
+    private final UniqueLoanList uniqueLoanList = new UniqueLoanList();
+    private final Loan loanOne = new LoanBuilder().withId(1).build();
+    private final Loan loanTwo = new LoanBuilder().withId(2).build();
+
+    @Test
+    public void contains_loanNotInList_returnsFalse() {
+        assertFalse(uniqueLoanList.contains(loanOne));
+    }
+
+    @Test
+    public void contains_loanWithSameIdInList_returnsTrue() {
+        uniqueLoanList.addLoan(loanOne);
+        assertTrue(uniqueLoanList.contains(new LoanBuilder(loanTwo).withId(1).build()));
+    }
+
+    @Test
+    public void addLoan_duplicateLoan_throwsDuplicateLoanException() {
+        uniqueLoanList.addLoan(loanOne);
+        assertThrows(DuplicateLoanException.class, () -> uniqueLoanList.addLoan(loanOne));
+    }
+
+    @Test
+    public void addLoans_newLoans_addedInOrderAndIndexed() {
+        Loan loanThree = new LoanBuilder().withId(3).build();
+        uniqueLoanList.addLoan(loanOne);
+        uniqueLoanList.addLoans(Arrays.asList(loanThree, loanTwo));
+        assertEquals(Arrays.asList(loanOne, loanThree, loanTwo), uniqueLoanList.asUnmodifiableObservableList());
+        assertEquals(loanThree, uniqueLoanList.getLoanById(3));
+        assertTrue(uniqueLoanList.getNextLoanId() > 3);
+    }
+
+    @Test
+    public void addLoans_duplicateLoans_throwsDuplicateLoanException() {
+        uniqueLoanList.addLoan(loanOne);
+        assertThrows(DuplicateLoanException.class, () -> uniqueLoanList.addLoans(Arrays.asList(loanTwo, loanOne)));
+        assertThrows(DuplicateLoanException.class, () -> uniqueLoanList.addLoans(Arrays.asList(loanTwo, loanTwo)));
+        assertEquals(Collections.singletonList(loanOne), uniqueLoanList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void getLoanById_existingAndMissingIds() {
+        uniqueLoanList.addLoan(loanOne);
+        uniqueLoanList.addLoan(loanTwo);
+        assertEquals(loanTwo, uniqueLoanList.getLoanById(2));
+        assertNull(uniqueLoanList.getLoanById(3));
+    }
+
+    @Test
+    public void removeLoan_loanDoesNotExist_throwsLoanNotFoundException() {
+        assertThrows(LoanNotFoundException.class, () -> uniqueLoanList.removeLoan(loanOne));
+    }
+
+    @Test
+    public void removeLoan_existingLoan_removesLoanAndIndex() {
+        uniqueLoanList.addLoan(loanOne);
+        uniqueLoanList.removeLoan(loanOne);
+        assertFalse(uniqueLoanList.contains(loanOne));
+        assertNull(uniqueLoanList.getLoanById(1));
+        assertEquals(0, uniqueLoanList.size());
+    }
+
+    @Test
+    public void setLoans_list_replacesOwnListAndIndex() {
+        uniqueLoanList.addLoan(loanOne);
+        uniqueLoanList.setLoans(Arrays.asList(loanTwo));
+        assertFalse(uniqueLoanList.contains(loanOne));
+        assertEquals(loanTwo, uniqueLoanList.getLoanById(2));
+    }
+
+    @Test
+    public void setLoans_listWithDuplicateLoans_throwsDuplicateLoanException() {
+        List<Loan> listWithDuplicateLoans = Arrays.asList(loanOne, loanTwo, loanOne);
+        assertThrows(DuplicateLoanException.class, () -> uniqueLoanList.setLoans(listWithDuplicateLoans));
+    }
+
+    @Test
+    public void getLoansAssignedTo_returnsOnlyLoansOfAssignee() {
+        Loan bobLoan = new LoanBuilder().withId(3).withAssignee(BOB).build();
+        Loan aliceLoan = new LoanBuilder().withId(4).withAssignee(ALICE).build();
+        uniqueLoanList.addLoan(bobLoan);
+        uniqueLoanList.addLoan(aliceLoan);
+        assertEquals(Collections.singletonList(bobLoan), uniqueLoanList.getLoansAssignedTo(BOB));
+        uniqueLoanList.removeLoan(bobLoan);
+        assertTrue(uniqueLoanList.getLoansAssignedTo(BOB).isEmpty());
+    }
+
+    @Test
+    public void removeLoansAttachedTo_removesOnlyLoansOfAssignee() {
+        Loan bobLoan = new LoanBuilder().withId(3).withAssignee(BOB).build();
+        Loan aliceLoan = new LoanBuilder().withId(4).withAssignee(ALICE).build();
+        uniqueLoanList.addLoan(bobLoan);
+        uniqueLoanList.addLoan(aliceLoan);
+        uniqueLoanList.removeLoansAttachedTo(BOB);
+        assertFalse(uniqueLoanList.contains(bobLoan));
+        assertTrue(uniqueLoanList.contains(aliceLoan));
+        assertEquals(1, uniqueLoanList.size());
+    }
+
+    @Test
+    public void removeLoansAttachedTo_interleavedLoans_removedInOneChange() {
+        Loan firstBobLoan = new LoanBuilder().withId(3).withAssignee(BOB).build();
+        Loan aliceLoan = new LoanBuilder().withId(4).withAssignee(ALICE).build();
+        Loan secondBobLoan = new LoanBuilder().withId(5).withAssignee(BOB).build();
+        Loan lastLoan = new LoanBuilder().withId(6).withAssignee(ALICE).build();
+        uniqueLoanList.addLoans(Arrays.asList(firstBobLoan, aliceLoan, secondBobLoan, lastLoan));
+        List<Change<? extends Loan>> changes = new ArrayList<>();
+        uniqueLoanList.asUnmodifiableObservableList().addListener((Change<? extends Loan> change) ->
+                changes.add(change));
+
+        uniqueLoanList.removeLoansAttachedTo(BOB);
+        assertEquals(1, changes.size());
+        assertEquals(Arrays.asList(aliceLoan, lastLoan), uniqueLoanList.getLoanList());
+
+        uniqueLoanList.markLoan(lastLoan);
+        assertTrue(uniqueLoanList.getLoan(1).isReturned());
+    }
+
+    @Test
+    public void modifyLoanAssignee_nameChanged_refreshesRowsInOneChange() {
+        Loan firstBobLoan = new LoanBuilder().withId(3).withAssignee(BOB).build();
+        Loan aliceLoan = new LoanBuilder().withId(4).withAssignee(ALICE).build();
+        Loan secondBobLoan = new LoanBuilder().withId(5).withAssignee(BOB).build();
+        uniqueLoanList.addLoans(Arrays.asList(firstBobLoan, aliceLoan, secondBobLoan));
+        List<Change<? extends Loan>> changes = new ArrayList<>();
+        uniqueLoanList.asUnmodifiableObservableList().addListener((Change<? extends Loan> change) ->
+                changes.add(change));
+
+        Person renamedBob = new PersonBuilder(BOB).withName("Robert").build();
+        uniqueLoanList.modifyLoanAssignee(BOB, renamedBob);
+        assertEquals(1, changes.size());
+        assertEquals(Arrays.asList(firstBobLoan, aliceLoan, secondBobLoan), uniqueLoanList.getLoanList());
+        assertEquals(renamedBob, uniqueLoanList.getLoan(2).getAssignee());
+    }
+
+    @Test
+    public void modifyLoanAssignee_movesLoansToEditedPerson() {
+        Loan bobLoan = new LoanBuilder().withId(3).withAssignee(BOB).build();
+        uniqueLoanList.addLoan(bobLoan);
+        uniqueLoanList.modifyLoanAssignee(BOB, ALICE);
+        assertTrue(uniqueLoanList.getLoansAssignedTo(BOB).isEmpty());
+        assertEquals(Collections.singletonList(bobLoan), uniqueLoanList.getLoansAssignedTo(ALICE));
+        assertEquals(ALICE, bobLoan.getAssignee());
+    }
+
+    @Test
+    public void modifyLoanAssignee_keepsAssigneeIdAndSharesEditedPerson() {
+        Loan firstBobLoan = new LoanBuilder().withId(3).withAssignee(BOB).build();
+        Loan secondBobLoan = new LoanBuilder().withId(4).withAssignee(BOB).build();
+        uniqueLoanList.addLoan(firstBobLoan);
+        uniqueLoanList.addLoan(secondBobLoan);
+        int bobId = firstBobLoan.getAssigneeId();
+        assertEquals(bobId, secondBobLoan.getAssigneeId());
+
+        Person editedBob = new PersonBuilder(BOB).withPhone("99999999").build();
+        uniqueLoanList.modifyLoanAssignee(BOB, editedBob);
+        assertEquals(bobId, firstBobLoan.getAssigneeId());
+        assertEquals(editedBob, firstBobLoan.getAssignee());
+        assertEquals(editedBob, secondBobLoan.getAssignee());
+        assertEquals(Arrays.asList(firstBobLoan, secondBobLoan), uniqueLoanList.getLoansAssignedTo(editedBob));
+        assertEquals(2, uniqueLoanList.getAggregateOf(editedBob).getNumLoans());
+    }
+
+    @Test
+    public void modifyLoanAssignee_editedPersonHasLoans_mergesLoans() {
+        Loan aliceLoan = new LoanBuilder().withId(3).withAssignee(ALICE).build();
+        Loan bobLoan = new LoanBuilder().withId(4).withAssignee(BOB).build();
+        uniqueLoanList.addLoan(aliceLoan);
+        uniqueLoanList.addLoan(bobLoan);
+
+        uniqueLoanList.modifyLoanAssignee(BOB, ALICE);
+        assertEquals(aliceLoan.getAssigneeId(), bobLoan.getAssigneeId());
+        assertEquals(Arrays.asList(aliceLoan, bobLoan), uniqueLoanList.getLoansAssignedTo(ALICE));
+        assertEquals(2, uniqueLoanList.getAggregateOf(ALICE).getNumLoans());
+    }
+
+    @Test
+    public void removeLoan_lastLoanOfAssignee_unregistersAssignee() {
+        Loan bobLoan = new LoanBuilder().withId(3).withAssignee(BOB).build();
+        uniqueLoanList.addLoan(bobLoan);
+        int bobId = bobLoan.getAssigneeId();
+        uniqueLoanList.removeLoan(bobLoan);
+
+        Loan newBobLoan = new LoanBuilder().withId(4).withAssignee(BOB).build();
+        uniqueLoanList.addLoan(newBobLoan);
+        assertFalse(bobId == newBobLoan.getAssigneeId());
+    }
+
+    @Test
+    public void setLoan_targetNotInList_throwsLoanNotFoundException() {
+        assertThrows(LoanNotFoundException.class, () -> uniqueLoanList.setLoan(loanOne, loanOne));
+    }
+
+    @Test
+    public void setLoan_editedLoanHasIdOfOtherLoan_throwsDuplicateLoanException() {
+        uniqueLoanList.addLoan(loanOne);
+        uniqueLoanList.addLoan(loanTwo);
+        assertThrows(DuplicateLoanException.class, () -> uniqueLoanList.setLoan(loanOne,
+                new LoanBuilder(loanOne).withId(2).build()));
+    }
+
+    @Test
+    public void setLoan_sameId_replacesInPlaceAndKeepsAssigneeId() {
+        Loan bobLoan = new LoanBuilder().withId(3).withAssignee(BOB).withReturnDate("2040-01-10").build();
+        uniqueLoanList.addLoan(loanOne);
+        uniqueLoanList.addLoan(bobLoan);
+        uniqueLoanList.addLoan(loanTwo);
+        int bobId = bobLoan.getAssigneeId();
+
+        Loan editedBobLoan = new LoanBuilder(bobLoan).withValue(new BigDecimal("500"))
+                .withReturnDate("2040-01-20").build();
+        uniqueLoanList.setLoan(bobLoan, editedBobLoan);
+        assertEquals(Arrays.asList(loanOne, editedBobLoan, loanTwo), uniqueLoanList.getLoanList());
+        assertSame(editedBobLoan, uniqueLoanList.getLoanById(3));
+        assertEquals(bobId, editedBobLoan.getAssigneeId());
+        assertEquals(Collections.singletonList(editedBobLoan), uniqueLoanList.getLoansAssignedTo(BOB));
+        assertEquals(Money.of(new BigDecimal("500")), uniqueLoanList.getAggregateOf(BOB).getTotalValueLoaned());
+        assertEquals(editedBobLoan.getReturnDate(), uniqueLoanList.getLatestReturnDate());
+    }
+
+    @Test
+    public void markLoan_afterEarlierLoanRemoved_changesItsOwnRow() {
+        Loan firstLoan = new LoanBuilder().withId(3).build();
+        Loan secondLoan = new LoanBuilder().withId(4).build();
+        Loan thirdLoan = new LoanBuilder().withId(5).build();
+        uniqueLoanList.addLoans(Arrays.asList(firstLoan, secondLoan, thirdLoan));
+        uniqueLoanList.removeLoan(firstLoan);
+
+        uniqueLoanList.markLoan(thirdLoan);
+        assertEquals(5, uniqueLoanList.getLoan(1).getId());
+        assertTrue(uniqueLoanList.getLoan(1).isReturned());
+        assertFalse(uniqueLoanList.getLoan(0).isReturned());
+
+        Loan editedLoan = new LoanBuilder(secondLoan).withId(6).build();
+        uniqueLoanList.setLoan(secondLoan, editedLoan);
+        uniqueLoanList.unmarkLoan(thirdLoan);
+        assertEquals(Arrays.asList(editedLoan, thirdLoan), uniqueLoanList.getLoanList());
+        assertThrows(LoanNotFoundException.class, () -> uniqueLoanList.markLoan(secondLoan));
+    }
+
+    @Test
+    public void markLoan_updatesAggregates() {
+        Loan bobLoan = new LoanBuilder().withId(3).withAssignee(BOB).build();
+        uniqueLoanList.addLoan(bobLoan);
+        uniqueLoanList.markLoan(bobLoan);
+        assertEquals(0, uniqueLoanList.getAggregateOf(BOB).getNumActiveLoans());
+        assertNull(uniqueLoanList.getEarliestReturnDate());
+
+        uniqueLoanList.unmarkLoan(bobLoan);
+        assertEquals(1, uniqueLoanList.getAggregate().getNumActiveLoans());
+        assertEquals(bobLoan.getReturnDate(), uniqueLoanList.getEarliestReturnDate());
+
+        uniqueLoanList.modifyLoanAssignee(BOB, ALICE);
+        assertEquals(0, uniqueLoanList.getAggregateOf(BOB).getNumLoans());
+        assertEquals(1, uniqueLoanList.getAggregateOf(ALICE).getNumActiveLoans());
+    }
+
+    @Test
+    public void markLoan_loanOfAnotherList_otherListUnchanged() {
+        Loan bobLoan = new LoanBuilder().withId(3).withAssignee(BOB).build();
+        UniqueLoanList otherList = new UniqueLoanList();
+        otherList.addLoan(loanOne);
+        otherList.addLoan(bobLoan);
+        uniqueLoanList.setLoans(otherList.getLoanList());
+        int otherBobId = bobLoan.getAssigneeId();
+
+        uniqueLoanList.markLoan(bobLoan);
+        uniqueLoanList.modifyLoanAssignee(BOB, ALICE);
+        assertTrue(uniqueLoanList.getLoanById(3).isReturned());
+        assertFalse(bobLoan.isReturned());
+        assertEquals(BOB, bobLoan.getAssignee());
+        assertEquals(otherBobId, bobLoan.getAssigneeId());
+        assertEquals(1, otherList.getAggregateOf(BOB).getNumActiveLoans());
+    }
+
+    @Test
+    public void returnDateQueries_skipReturnedAndOverdueLoans() {
+        Date oneWeekBeforeNow = new Date(new Date().getTime() - 604800000);
+        Date oneWeekAfterNow = new Date(new Date().getTime() + 604800000);
+        Date twoWeeksAfterNow = new Date(new Date().getTime() + 1209600000);
+        Loan overdueLoan = new LoanBuilder().withId(3).withReturnDate(oneWeekBeforeNow).build();
+        Loan dueSoonLoan = new LoanBuilder().withId(4).withReturnDate(oneWeekAfterNow).build();
+        Loan dueLaterLoan = new LoanBuilder().withId(5).withReturnDate(twoWeeksAfterNow).build();
+        uniqueLoanList.addLoan(dueLaterLoan);
+        uniqueLoanList.addLoan(overdueLoan);
+        uniqueLoanList.addLoan(dueSoonLoan);
+
+        assertEquals(Collections.singletonList(overdueLoan), uniqueLoanList.getOverdueLoans());
+        assertEquals(Collections.singletonList(dueSoonLoan), uniqueLoanList.getLoansDueWithin(10));
+        assertEquals(Arrays.asList(dueSoonLoan, dueLaterLoan), uniqueLoanList.getLoansDueWithin(20));
+        assertEquals(dueSoonLoan.getReturnDate(), uniqueLoanList.getEarliestReturnDate());
+        assertEquals(dueLaterLoan.getReturnDate(), uniqueLoanList.getLatestReturnDate());
+
+        uniqueLoanList.markLoan(dueSoonLoan);
+        uniqueLoanList.markLoan(overdueLoan);
+        assertTrue(uniqueLoanList.getOverdueLoans().isEmpty());
+        assertEquals(dueLaterLoan.getReturnDate(), uniqueLoanList.getEarliestReturnDate());
+
+        uniqueLoanList.removeLoan(dueLaterLoan);
+        assertNull(uniqueLoanList.getEarliestReturnDate());
+        assertNull(uniqueLoanList.getLatestReturnDate());
+    }
+
+    @Test
+    public void rollOverTo_returnsNewlyOverdueLoansInReturnDateOrder() {
+        Loan dueLaterLoan = new LoanBuilder().withId(3).withReturnDate("2040-01-10").build();
+        Loan dueSoonLoan = new LoanBuilder().withId(4).withReturnDate("2040-01-05").build();
+        Loan returnedLoan = new LoanBuilder().withId(5).withReturnDate("2040-01-06").withIsReturned(true).build();
+        uniqueLoanList.addLoan(dueLaterLoan);
+        uniqueLoanList.addLoan(dueSoonLoan);
+        uniqueLoanList.addLoan(returnedLoan);
+
+        uniqueLoanList.rollOverTo(dueSoonLoan.getReturnDay());
+        assertEquals(Arrays.asList(dueSoonLoan, dueLaterLoan),
+                uniqueLoanList.rollOverTo(dueLaterLoan.getReturnDay() + 1));
+        assertEquals(2, uniqueLoanList.getAggregate().getNumOverdueLoans());
+        assertEquals(2, uniqueLoanList.getAggregateOf(dueSoonLoan.getAssignee()).getNumOverdueLoans());
+        assertTrue(uniqueLoanList.rollOverTo(dueLaterLoan.getReturnDay() + 2).isEmpty());
+    }
+
+    @Test
+    public void rollOverTo_updatesOverdueLoanIdsWithoutChangingList() {
+        Loan dueLaterLoan = new LoanBuilder().withId(3).withReturnDate("2040-01-10").build();
+        Loan dueSoonLoan = new LoanBuilder().withId(4).withReturnDate("2040-01-05").build();
+        uniqueLoanList.addLoan(dueLaterLoan);
+        uniqueLoanList.addLoan(dueSoonLoan);
+        uniqueLoanList.rollOverTo(dueSoonLoan.getReturnDay());
+        List<Change<? extends Loan>> listChanges = new ArrayList<>();
+        uniqueLoanList.asUnmodifiableObservableList().addListener((Change<? extends Loan> change) ->
+                listChanges.add(change));
+
+        uniqueLoanList.rollOverTo(dueSoonLoan.getReturnDay() + 1);
+        assertEquals(Collections.singleton(4), uniqueLoanList.getOverdueLoanIds());
+        assertTrue(listChanges.isEmpty());
+
+        uniqueLoanList.markLoan(dueSoonLoan);
+        assertTrue(uniqueLoanList.getOverdueLoanIds().isEmpty());
+        uniqueLoanList.unmarkLoan(dueSoonLoan);
+        assertEquals(Collections.singleton(4), uniqueLoanList.getOverdueLoanIds());
+
+        uniqueLoanList.rollOverTo(dueSoonLoan.getReturnDay());
+        assertTrue(uniqueLoanList.getOverdueLoanIds().isEmpty());
+    }
+
+    @Test
+    public void setLoans_keepsOverdueLoanIdsAsOfRolledOverDay() {
+        Loan dueLaterLoan = new LoanBuilder().withId(3).withReturnDate("2040-01-10").build();
+        Loan dueSoonLoan = new LoanBuilder().withId(4).withReturnDate("2040-01-05").build();
+        uniqueLoanList.rollOverTo(dueLaterLoan.getReturnDay());
+
+        uniqueLoanList.setLoans(Arrays.asList(dueLaterLoan, dueSoonLoan));
+        assertEquals(Collections.singleton(4), uniqueLoanList.getOverdueLoanIds());
+        assertEquals(Collections.singletonList(dueSoonLoan), uniqueLoanList.getOverdueLoans());
+        assertEquals(dueLaterLoan.getReturnDate(), uniqueLoanList.getEarliestReturnDate());
+    }
+}
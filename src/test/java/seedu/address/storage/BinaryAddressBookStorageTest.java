@@ -0,0 +1,132 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersonsWithLoans.ALICE;
+import static seedu.address.testutil.TypicalPersonsWithLoans.getTypicalAddressBook;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.LoanBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path jsonFilePath;
+    private BinaryAddressBookStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        jsonFilePath = testFolder.resolve("addressbook.json");
+        storage = new BinaryAddressBookStorage(jsonFilePath);
+    }
+
+    @Test
+    public void getAddressBookFilePath_besideJsonFile() {
+        assertEquals(testFolder.resolve("addressbook.bin"), storage.getAddressBookFilePath());
+    }
+
+    @Test
+    public void read_missingFiles_emptyResult() throws Exception {
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSave_addressBookWithLoans_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        original.addLoan(new LoanBuilder().withId(500).withValue(new BigDecimal("0.125")).withAssignee(ALICE)
+                .build());
+        storage.saveAddressBook(original);
+
+        assertFalse(Files.exists(jsonFilePath));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(jsonFilePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void save_addressBookWithLoans_smallerThanJson() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+        assertTrue(Files.size(storage.getAddressBookFilePath()) * 3 < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void read_jsonFileNewer_importsJsonFile() throws Exception {
+        storage.saveAddressBook(new AddressBook());
+        AddressBook imported = getTypicalAddressBook();
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(imported);
+        FileTime snapshotTime = Files.getLastModifiedTime(storage.getAddressBookFilePath());
+        Files.setLastModifiedTime(jsonFilePath, FileTime.fromMillis(snapshotTime.toMillis() + 1000));
+
+        assertEquals(imported, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void read_jsonFileOlder_readsSnapshot() throws Exception {
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+        Files.setLastModifiedTime(jsonFilePath, FileTime.fromMillis(0));
+        storage.saveAddressBook(new AddressBook());
+
+        assertEquals(new AddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void read_damagedSnapshot_throwsDataLoadingException() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        Path filePath = storage.getAddressBookFilePath();
+        byte[] data = Files.readAllBytes(filePath);
+        data[data.length / 2] ^= 1;
+        Files.write(filePath, data);
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+
+        Files.write(filePath, new byte[] {1, 2, 3});
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void decode_lengthsBeyondContent_throwsIllegalValueException() {
+        // 2^32 - 1 strings, which is negative as an int
+        assertDecodeCorrupted(0xFF, 0xFF, 0xFF, 0xFF, 0x0F);
+        // more strings than there are bytes left
+        assertDecodeCorrupted(0xE8, 0x07);
+        // a string longer than the bytes left
+        assertDecodeCorrupted(0x01, 0xE8, 0x07, 'a');
+        // no strings, but more persons than there are bytes left
+        assertDecodeCorrupted(0x00, 0xE8, 0x07);
+    }
+
+    /**
+     * Asserts that a snapshot holding {@code content} after its header cannot be decoded as it is damaged,
+     * even though its checksum matches.
+     */
+    private static void assertDecodeCorrupted(int... content) {
+        ByteBuffer snapshot = ByteBuffer.allocate(Integer.BYTES + 1 + content.length + Integer.BYTES);
+        snapshot.put(new byte[] {'L', 'G', 'P', 'B', BinaryAddressBookFormat.VERSION});
+        for (int b : content) {
+            snapshot.put((byte) b);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(snapshot.array(), 0, snapshot.position());
+        snapshot.putInt((int) crc.getValue());
+        snapshot.flip();
+        assertThrows(IllegalValueException.class, BinaryAddressBookFormat.MESSAGE_CORRUPTED, () ->
+                BinaryAddressBookFormat.decode(snapshot));
+    }
+}
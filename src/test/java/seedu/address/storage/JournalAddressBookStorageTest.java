@@ -0,0 +1,186 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Loan;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.LoanBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressbook.json");
+        model = new ModelManager();
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournalAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void save_changesAfterFirstSave_appendsToJournalOnly() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        model.addPerson(ALICE);
+        model.addPerson(BENSON);
+        storage.saveAddressBook(model.getAddressBookSnapshot());
+        byte[] data = Files.readAllBytes(filePath);
+
+        Loan loan = new LoanBuilder().withId(1).withAssignee(ALICE).build();
+        model.addLoan(loan);
+        storage.saveAddressBook(model.getAddressBookSnapshot());
+        model.markLoan(loan);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("91234567").build();
+        model.setPerson(ALICE, editedAlice);
+        model.deletePerson(BENSON);
+        model.addPerson(CARL);
+        storage.saveAddressBook(model.getAddressBookSnapshot());
+
+        assertArrayEquals(data, Files.readAllBytes(filePath));
+        assertReadBackEqualsModel(new JournalAddressBookStorage(filePath));
+        Loan readLoan = new JournalAddressBookStorage(filePath).readAddressBook().get().getLoanList().get(0);
+        assertTrue(readLoan.isReturned());
+        assertEquals(editedAlice, readLoan.getAssignee());
+    }
+
+    @Test
+    public void read_personsDeletedBeforeFirstSave_keepsOrder() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        model.addPerson(ALICE);
+        model.addPerson(BENSON);
+        model.addPerson(CARL);
+        model.deletePerson(BENSON);
+        storage.saveAddressBook(model.getAddressBookSnapshot());
+
+        model.addPerson(DANIEL);
+        model.deletePerson(ALICE);
+        storage.saveAddressBook(model.getAddressBookSnapshot());
+
+        ReadOnlyAddressBook readBack = new JournalAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(Arrays.asList(CARL, DANIEL), readBack.getPersonList());
+    }
+
+    @Test
+    public void read_partlyWrittenLastLine_ignoresIt() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        model.addPerson(ALICE);
+        storage.saveAddressBook(model.getAddressBookSnapshot());
+        model.addPerson(BENSON);
+        storage.saveAddressBook(model.getAddressBookSnapshot());
+
+        Files.write(JournalAddressBookStorage.getJournalPath(filePath),
+                "{\"op\":\"putPers".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        assertReadBackEqualsModel(new JournalAddressBookStorage(filePath));
+    }
+
+    @Test
+    public void read_damagedMiddleLine_replaysUpToIt() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        model.addPerson(ALICE);
+        storage.saveAddressBook(model.getAddressBookSnapshot());
+        model.addPerson(BENSON);
+        storage.saveAddressBook(model.getAddressBookSnapshot());
+        AddressBook expected = new AddressBook(model.getAddressBook());
+
+        Path journalPath = JournalAddressBookStorage.getJournalPath(filePath);
+        Files.write(journalPath, "{\"op\":\"putPers\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        model.addPerson(CARL);
+        storage.saveAddressBook(model.getAddressBookSnapshot());
+
+        assertEquals(expected, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void read_assigneeEditedTwice_reassignsLoansOfLatestVersion() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        model.addPerson(ALICE);
+        model.addPerson(BENSON);
+        model.addLoan(new LoanBuilder().withId(1).withAssignee(ALICE).build());
+        model.addLoan(new LoanBuilder().withId(2).withAssignee(BENSON).build());
+        storage.saveAddressBook(model.getAddressBookSnapshot());
+
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("91234567").build();
+        model.setPerson(ALICE, editedAlice);
+        storage.saveAddressBook(model.getAddressBookSnapshot());
+        model.setPerson(editedAlice, new PersonBuilder(editedAlice).withPhone("98765432").build());
+        model.addLoan(new LoanBuilder().withId(3).withAssignee(BENSON).build());
+        storage.saveAddressBook(model.getAddressBookSnapshot());
+
+        assertReadBackEqualsModel(new JournalAddressBookStorage(filePath));
+        ReadOnlyAddressBook readBack = new JournalAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(model.getAddressBook().getLoanList().get(0).getAssignee(),
+                readBack.getLoanList().get(0).getAssignee());
+        assertEquals(BENSON, readBack.getLoanList().get(1).getAssignee());
+    }
+
+    @Test
+    public void read_dataFileReplaced_ignoresJournal() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        model.addPerson(ALICE);
+        storage.saveAddressBook(model.getAddressBookSnapshot());
+        model.addPerson(BENSON);
+        storage.saveAddressBook(model.getAddressBookSnapshot());
+
+        AddressBook replacement = new AddressBook();
+        replacement.addPerson(CARL);
+        new JsonAddressBookStorage(filePath).saveAddressBook(replacement);
+
+        assertEquals(replacement, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void save_journalBeyondThreshold_compactsIntoDataFile() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, 0);
+        model.addPerson(ALICE);
+        storage.saveAddressBook(model.getAddressBookSnapshot());
+        byte[] data = Files.readAllBytes(filePath);
+
+        model.addPerson(BENSON);
+        storage.saveAddressBook(model.getAddressBookSnapshot());
+        storage.awaitCompaction();
+
+        assertFalse(Arrays.equals(data, Files.readAllBytes(filePath)));
+        assertEquals(1, Files.readAllLines(JournalAddressBookStorage.getJournalPath(filePath)).size());
+        assertEquals(model.getAddressBook(), new AddressBook(new JsonAddressBookStorage(filePath)
+                .readAddressBook().get()));
+
+        model.addPerson(CARL);
+        storage.saveAddressBook(model.getAddressBookSnapshot());
+        storage.awaitCompaction();
+        assertReadBackEqualsModel(new JournalAddressBookStorage(filePath));
+    }
+
+    private void assertReadBackEqualsModel(JournalAddressBookStorage storage) throws Exception {
+        assertEquals(model.getAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+}
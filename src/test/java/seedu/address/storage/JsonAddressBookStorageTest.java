@@ -9,13 +9,20 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
@@ -86,6 +93,40 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveAddressBook_loanValues_writtenAsRead() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        ReadOnlyAddressBook original = readAddressBook("loanValuesAddressBook.json").get();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        List<String> values = new ArrayList<>();
+        Matcher matcher = Pattern.compile("\"value\" : ([^,\\s]+)").matcher(FileUtil.readFromFile(filePath));
+        while (matcher.find()) {
+            values.add(matcher.group(1));
+        }
+        assertEquals(Arrays.asList("100", "250.5", "75.25"), values);
+        assertEquals(new AddressBook(original),
+                new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_damagedDataFile_readsNewestBackupThatCanBeLoaded() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath, 2);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(new AddressBook());
+
+        Files.write(filePath, new byte[] {'{', '"'});
+        Files.write(FileUtil.getBackupPath(filePath, 1), new byte[0]);
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+
+        Files.delete(FileUtil.getBackupPath(filePath, 2));
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
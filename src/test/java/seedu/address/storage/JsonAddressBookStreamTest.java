@@ -0,0 +1,118 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersonsWithLoans.getTypicalAddressBook;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Loan;
+
+public class JsonAddressBookStreamTest {
+
+    @Test
+    public void write_addressBookWithLoans_sameAsJsonSerializableAddressBook() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonAddressBookStream.write(addressBook, out);
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook)),
+                new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void read_writtenAddressBook_sameAddressBook() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonAddressBookStream.write(addressBook, out);
+        assertEquals(addressBook, JsonAddressBookStream.read(new ByteArrayInputStream(out.toByteArray())));
+    }
+
+    @Test
+    public void read_loansBeforePersonsAndUnknownFields_success() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        String json = toVersion1Json(addressBook).replaceFirst("\\{", "{\"_comment\": {\"note\": [1, 2]}, ");
+        assertEquals(addressBook, read(json));
+    }
+
+    @Test
+    public void read_orphanLoan_throwsIllegalValueException() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        String json = "{\"persons\": [], \"loans\": "
+                + JsonUtil.toJsonString(addressBook.getLoanList().stream().map(JsonAdaptedLoan::new).toArray())
+                + "}";
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_ORPHAN_LOAN, () -> read(json));
+    }
+
+    @Test
+    public void write_loans_referToAssigneesByKey() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonAddressBookStream.write(getTypicalAddressBook(), out);
+        String json = new String(out.toByteArray(), StandardCharsets.UTF_8);
+        assertTrue(json.contains("\"version\" : " + JsonSerializableAddressBook.VERSION));
+        assertTrue(json.contains("\"assigneeKey\""));
+        assertFalse(json.contains("\"assignee\""));
+    }
+
+    @Test
+    public void read_version1WithEmbeddedAssignees_migrated() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        AddressBook readBack = read(toVersion1Json(addressBook));
+        assertEquals(addressBook, readBack);
+    }
+
+    @Test
+    public void read_loansReferringByKey_shareAssignees() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonAddressBookStream.write(getTypicalAddressBook(), out);
+        AddressBook readBack = JsonAddressBookStream.read(new ByteArrayInputStream(out.toByteArray()));
+        for (Loan loan : readBack.getLoanList()) {
+            int key = readBack.getPersonList().indexOf(loan.getAssignee());
+            assertSame(readBack.getPersonList().get(key), loan.getAssignee());
+        }
+    }
+
+    @Test
+    public void read_invalidAssigneeKey_throwsIllegalValueException() throws Exception {
+        String json = toVersion1Json(getTypicalAddressBook()).replace("{\"loans\": ", "{\"version\": 2, \"loans\": ")
+                .replaceFirst("\"assignee\" ?: ?\\{[^}]*\\}", "\"assigneeKey\": 100");
+        assertThrows(IllegalValueException.class, JsonAdaptedLoan.INVALID_ASSIGNEE_KEY_MESSAGE, () -> read(json));
+    }
+
+    @Test
+    public void read_newerVersion_throwsIllegalValueException() {
+        String json = "{\"version\": " + (JsonSerializableAddressBook.VERSION + 1) + ", \"persons\": []}";
+        assertThrows(IllegalValueException.class, () -> read(json));
+    }
+
+    @Test
+    public void read_notAnObject_throwsIoException() {
+        assertThrows(IOException.class, () -> read("[]"));
+        assertThrows(IOException.class, () -> read("{\"persons\": [ {"));
+    }
+
+    /**
+     * Returns {@code addressBook} in version 1 of the format, where every loan embeds its assignee.
+     */
+    private static String toVersion1Json(AddressBook addressBook) throws Exception {
+        return "{\"loans\": "
+                + JsonUtil.toJsonString(addressBook.getLoanList().stream().map(JsonAdaptedLoan::new).toArray())
+                + ", \"persons\": "
+                + JsonUtil.toJsonString(addressBook.getPersonList().stream().map(JsonAdaptedPerson::new).toArray())
+                + "}";
+    }
+
+    private static AddressBook read(String json) throws Exception {
+        return JsonAddressBookStream.read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class ParallelConverterTest {
+
+    private static final int SOURCE_COUNT = ParallelConverter.CHUNK_SIZE * 5 + 7;
+
+    @Test
+    public void convertAll_manyChunks_sameOrder() throws Exception {
+        List<Integer> sources = IntStream.range(0, SOURCE_COUNT).boxed().collect(Collectors.toList());
+        List<String> expected = sources.stream().map(String::valueOf).collect(Collectors.toList());
+        assertEquals(expected, ParallelConverter.convertAll(sources, String::valueOf));
+        assertEquals(new ArrayList<>(), ParallelConverter.convertAll(new ArrayList<Integer>(), String::valueOf));
+    }
+
+    @Test
+    public void finish_invalidSources_throwsFirstFailure() {
+        ParallelConverter<Integer, Integer> converter = new ParallelConverter<>(source -> {
+            if (source % ParallelConverter.CHUNK_SIZE == 3) {
+                throw new IllegalValueException("invalid " + source);
+            }
+            return source;
+        });
+        for (int i = ParallelConverter.CHUNK_SIZE; i < SOURCE_COUNT; i++) {
+            converter.add(i);
+        }
+        assertThrows(IllegalValueException.class, "invalid " + (ParallelConverter.CHUNK_SIZE + 3), converter::finish);
+    }
+
+    @Test
+    public void finish_invalidLastChunk_throwsIllegalValueException() {
+        ParallelConverter<Integer, Integer> converter = new ParallelConverter<>(source -> {
+            if (source == SOURCE_COUNT - 1) {
+                throw new IllegalValueException("invalid");
+            }
+            return source;
+        });
+        for (int i = 0; i < SOURCE_COUNT; i++) {
+            converter.add(i);
+        }
+        assertThrows(IllegalValueException.class, "invalid", converter::finish);
+    }
+}
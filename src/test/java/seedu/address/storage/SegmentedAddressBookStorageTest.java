@@ -0,0 +1,225 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersonsWithLoans.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Loan;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.LoanBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class SegmentedAddressBookStorageTest {
+
+    private static final int PERSON_COUNT = SegmentedAddressBookStorage.SEGMENT_SIZE * 2 + 10;
+
+    @TempDir
+    public Path testFolder;
+
+    private Path jsonFilePath;
+    private SegmentedAddressBookStorage storage;
+    private Model model;
+    private List<Person> persons;
+    private List<Loan> loans;
+
+    @BeforeEach
+    public void setUp() {
+        jsonFilePath = testFolder.resolve("addressbook.json");
+        storage = new SegmentedAddressBookStorage(jsonFilePath);
+        model = new ModelManager();
+        persons = new ArrayList<>();
+        loans = new ArrayList<>();
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            Person person = new PersonBuilder().withName("Person " + i).build();
+            Loan loan = new LoanBuilder().withId(i + 1).withAssignee(person).build();
+            model.addPerson(person);
+            model.addLoan(loan);
+            persons.add(person);
+            loans.add(loan);
+        }
+    }
+
+    @Test
+    public void getAddressBookFilePath_besideJsonFile() {
+        assertEquals(testFolder.resolve("addressbook.segments").resolve("manifest.json"),
+                storage.getAddressBookFilePath());
+    }
+
+    @Test
+    public void read_missingFiles_emptyResult() throws Exception {
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSave_snapshotsAndPlainAddressBooks_success() throws Exception {
+        storage.saveAddressBook(model.getAddressBookSnapshot());
+        assertFalse(Files.exists(jsonFilePath));
+        assertEquals(model.getAddressBook(), new AddressBook(storage.readAddressBook().get()));
+
+        AddressBook typical = getTypicalAddressBook();
+        storage.saveAddressBook(typical);
+        assertEquals(typical, new AddressBook(new SegmentedAddressBookStorage(jsonFilePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void save_oneLoanChanged_writesOnlyItsSegment() throws Exception {
+        storage.saveAddressBook(model.getAddressBookSnapshot());
+        Set<String> filesBefore = listSegmentFiles();
+
+        model.markLoan(loans.get(0));
+        storage.saveAddressBook(model.getAddressBookSnapshot());
+
+        Set<String> added = new HashSet<>(listSegmentFiles());
+        added.removeAll(filesBefore);
+        assertEquals(1, added.size());
+        assertTrue(added.iterator().next().startsWith("loans-0-"));
+        assertEquals(filesBefore.size(), listSegmentFiles().size());
+        assertEquals(model.getAddressBook(), new AddressBook(
+                new SegmentedAddressBookStorage(jsonFilePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void save_assigneeEdited_keepsLoansOfAssignee() throws Exception {
+        storage.saveAddressBook(model.getAddressBookSnapshot());
+        Set<String> filesBefore = listSegmentFiles();
+
+        Person lastPerson = persons.get(PERSON_COUNT - 1);
+        model.setPerson(lastPerson, new PersonBuilder(lastPerson).withPhone("91234567").build());
+        storage.saveAddressBook(model.getAddressBookSnapshot());
+
+        Set<String> added = new HashSet<>(listSegmentFiles());
+        added.removeAll(filesBefore);
+        assertEquals(1, added.size());
+        assertTrue(added.iterator().next().startsWith("persons-2-"));
+        assertEquals(model.getAddressBook(), new AddressBook(
+                new SegmentedAddressBookStorage(jsonFilePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void save_segmentEmptied_deletesItsFile() throws Exception {
+        storage.saveAddressBook(model.getAddressBookSnapshot());
+        int fileCount = listSegmentFiles().size();
+
+        for (int i = SegmentedAddressBookStorage.SEGMENT_SIZE * 2; i < PERSON_COUNT; i++) {
+            model.deletePerson(persons.get(i));
+        }
+        storage.saveAddressBook(model.getAddressBookSnapshot());
+
+        assertEquals(fileCount - 1, listSegmentFiles().size());
+        assertTrue(listSegmentFiles().stream().noneMatch(name -> name.startsWith("persons-2-")));
+        assertEquals(model.getAddressBook(), new AddressBook(
+                new SegmentedAddressBookStorage(jsonFilePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void save_firstAfterRead_writesOnlyChangedSegments() throws Exception {
+        model.deletePerson(persons.get(0));
+        model.deletePerson(persons.get(SegmentedAddressBookStorage.SEGMENT_SIZE));
+        storage.saveAddressBook(model.getAddressBookSnapshot());
+        Set<String> filesBefore = listSegmentFiles();
+
+        SegmentedAddressBookStorage readStorage = new SegmentedAddressBookStorage(jsonFilePath);
+        Model readModel = new ModelManager(readStorage.readAddressBook().get(), new UserPrefs());
+        readStorage.saveAddressBook(readModel.getAddressBookSnapshot());
+        assertEquals(filesBefore, listSegmentFiles());
+
+        readModel.markLoan(readModel.getAddressBook().getLoanList().get(PERSON_COUNT - 3));
+        readModel.addPerson(new PersonBuilder().withName("Person new").build());
+        readStorage.saveAddressBook(readModel.getAddressBookSnapshot());
+        Set<String> added = new HashSet<>(listSegmentFiles());
+        added.removeAll(filesBefore);
+        assertEquals(2, added.size());
+        assertTrue(added.stream().anyMatch(name -> name.startsWith("loans-2-")));
+        assertTrue(added.stream().anyMatch(name -> name.startsWith("persons-2-")));
+        assertEquals(readModel.getAddressBook(), new AddressBook(
+                new SegmentedAddressBookStorage(jsonFilePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void read_damagedManifest_readsBackup() throws Exception {
+        storage = new SegmentedAddressBookStorage(jsonFilePath, 2);
+        storage.saveAddressBook(model.getAddressBookSnapshot());
+        AddressBook expected = new AddressBook(model.getAddressBook());
+        model.markLoan(loans.get(0));
+        storage.saveAddressBook(model.getAddressBookSnapshot());
+
+        Files.write(storage.getAddressBookFilePath(), new byte[] {'{'});
+        SegmentedAddressBookStorage readStorage = new SegmentedAddressBookStorage(jsonFilePath, 2);
+        assertEquals(expected, new AddressBook(readStorage.readAddressBook().get()));
+
+        readStorage.saveAddressBook(expected);
+        assertEquals(expected, new AddressBook(new SegmentedAddressBookStorage(jsonFilePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void save_beyondBackupCount_deletesFilesOfOldestBackup() throws Exception {
+        storage = new SegmentedAddressBookStorage(jsonFilePath, 1);
+        storage.saveAddressBook(model.getAddressBookSnapshot());
+        model.markLoan(loans.get(0));
+        storage.saveAddressBook(model.getAddressBookSnapshot());
+        assertEquals(2, countFiles("loans-0-"));
+
+        model.unmarkLoan(loans.get(0));
+        storage.saveAddressBook(model.getAddressBookSnapshot());
+        assertEquals(2, countFiles("loans-0-"));
+        assertEquals(1, countFiles("loans-1-"));
+    }
+
+    @Test
+    public void read_jsonFileNewer_importsJsonFile() throws Exception {
+        storage.saveAddressBook(new AddressBook());
+        AddressBook imported = getTypicalAddressBook();
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(imported);
+        FileTime manifestTime = Files.getLastModifiedTime(storage.getAddressBookFilePath());
+        Files.setLastModifiedTime(jsonFilePath, FileTime.fromMillis(manifestTime.toMillis() + 1000));
+
+        assertEquals(imported, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void read_damagedSegment_throwsDataLoadingException() throws Exception {
+        storage.saveAddressBook(model.getAddressBookSnapshot());
+        Path segment = storage.getAddressBookFilePath().resolveSibling(listSegmentFiles().iterator().next());
+        byte[] data = Files.readAllBytes(segment);
+        data[data.length / 2] ^= 1;
+        Files.write(segment, data);
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+
+        Files.delete(segment);
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    private long countFiles(String prefix) throws IOException {
+        return listSegmentFiles().stream().filter(name -> name.startsWith(prefix)).count();
+    }
+
+    private Set<String> listSegmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(storage.getAddressBookFilePath().getParent())) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> !name.startsWith(SegmentedAddressBookStorage.MANIFEST_FILE_NAME))
+                    .collect(Collectors.toSet());
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class WriteBehindSaverTest {
+
+    @Test
+    public void save_burstOfChanges_writesLatestOnce() {
+        AddressBookStorageStub storage = new AddressBookStorageStub();
+        WriteBehindSaver saver = new WriteBehindSaver(storage, 10_000);
+        AddressBook latest = getTypicalAddressBook();
+
+        saver.save(new AddressBook());
+        saver.save(new AddressBook());
+        saver.save(latest);
+        assertTrue(storage.savedAddressBooks.isEmpty());
+
+        saver.flush();
+        assertEquals(1, storage.savedAddressBooks.size());
+        assertSame(latest, storage.savedAddressBooks.get(0));
+    }
+
+    @Test
+    public void flush_nothingPending_writesNothing() {
+        AddressBookStorageStub storage = new AddressBookStorageStub();
+        WriteBehindSaver saver = new WriteBehindSaver(storage, 0);
+
+        saver.flush();
+
+        assertTrue(storage.savedAddressBooks.isEmpty());
+    }
+
+    @Test
+    public void stop_changePending_writesItAndIgnoresLaterChanges() {
+        AddressBookStorageStub storage = new AddressBookStorageStub();
+        WriteBehindSaver saver = new WriteBehindSaver(storage, 10_000);
+
+        saver.save(new AddressBook());
+        saver.stop();
+        saver.save(new AddressBook());
+        saver.stop();
+
+        assertEquals(1, storage.savedAddressBooks.size());
+    }
+
+    @Test
+    public void save_storageThrows_tellsFailureHandler() {
+        IOException exception = new IOException("dummy IO exception");
+        AddressBookStorageStub storage = new AddressBookStorageStub() {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+                throw exception;
+            }
+        };
+        WriteBehindSaver saver = new WriteBehindSaver(storage, 10_000);
+        List<IOException> failures = new ArrayList<>();
+        saver.setFailureHandler(failures::add);
+
+        saver.save(new AddressBook());
+        saver.flush();
+
+        assertEquals(List.of(exception), failures);
+    }
+
+    /**
+     * An {@code AddressBookStorage} that remembers the address books it was asked to save.
+     */
+    private static class AddressBookStorageStub implements AddressBookStorage {
+        private final List<ReadOnlyAddressBook> savedAddressBooks = new ArrayList<>();
+
+        @Override
+        public Path getAddressBookFilePath() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            savedAddressBooks.add(addressBook);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+    }
+}
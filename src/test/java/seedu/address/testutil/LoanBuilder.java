@@ -5,6 +5,7 @@ import java.util.Date;
 
 import seedu.address.commons.util.DateUtil;
 import seedu.address.model.person.Loan;
+import seedu.address.model.person.Money;
 import seedu.address.model.person.Person;
 
 /**
@@ -20,7 +21,7 @@ public class LoanBuilder {
     public static final Person DEFAULT_ASSIGNEE = new PersonBuilder().build();
 
     private int id;
-    private BigDecimal value;
+    private Money value;
     private Date startDate;
     private Date returnDate;
     private boolean isReturned;
@@ -31,7 +32,7 @@ public class LoanBuilder {
      */
     public LoanBuilder() {
         id = DEFAULT_ID;
-        value = DEFAULT_VALUE;
+        value = Money.of(DEFAULT_VALUE);
         isReturned = DEFAULT_IS_RETURNED;
         assignee = DEFAULT_ASSIGNEE;
         try {
@@ -66,6 +67,14 @@ public class LoanBuilder {
      * Parses the {@code value} of the {@code Loan} that we are building.
      */
     public LoanBuilder withValue(BigDecimal value) {
+        this.value = Money.of(value);
+        return this;
+    }
+
+    /**
+     * Sets the {@code value} of the {@code Loan} that we are building.
+     */
+    public LoanBuilder withValue(Money value) {
         this.value = value;
         return this;
     }
@@ -19,6 +19,7 @@ import java.util.List;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.DateUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Money;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniqueLoanList;
 
@@ -68,11 +69,11 @@ public class TypicalPersonsWithLoans {
     public static UniqueLoanList loanRecords() {
         UniqueLoanList uniqueLoanList = new UniqueLoanList();
         try {
-            uniqueLoanList.addLoan(BigDecimal.valueOf(100), DateUtil.parse("2020-01-01"),
+            uniqueLoanList.addLoan(Money.of(BigDecimal.valueOf(100)), DateUtil.parse("2020-01-01"),
                     DateUtil.parse("2020-01-13"), ALICE);
-            uniqueLoanList.addLoan(BigDecimal.valueOf(200), DateUtil.parse("2020-02-01"),
+            uniqueLoanList.addLoan(Money.of(BigDecimal.valueOf(200)), DateUtil.parse("2020-02-01"),
                     DateUtil.parse("2020-02-13"), BENSON);
-            uniqueLoanList.addLoan(BigDecimal.valueOf(300), DateUtil.parse("2020-02-13"),
+            uniqueLoanList.addLoan(Money.of(BigDecimal.valueOf(300)), DateUtil.parse("2020-02-13"),
                     DateUtil.parse("2020-02-14"), CARL);
         } catch (IllegalValueException e) {
             e.printStackTrace();